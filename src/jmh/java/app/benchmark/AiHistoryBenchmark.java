@@ -0,0 +1,55 @@
+package app.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import app.global.jpa.TimeOrderedUuidGenerator;
+import app.model.entity.AiHistory;
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+
+// 요청마다 만드는 AiHistory 엔티티와 UUIDv7 식별자 생성 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AiHistoryBenchmark {
+
+	@Benchmark
+	public AiHistory buildPendingHistory() {
+		return AiHistory.builder()
+			.userId(1L)
+			.storeName("맛있는 분식")
+			.menuName("떡볶이")
+			.reqType(ReqType.MENU_DESCRIPTION)
+			.promptText("매콤함을 강조해줘")
+			.status(AiRequestStatus.PENDING)
+			.build();
+	}
+
+	@Benchmark
+	public AiHistory buildAndComplete() {
+		AiHistory history = buildPendingHistory();
+		history.updateGeneratedContent("입안 가득 퍼지는 매콤달콤 떡볶이", AiRequestStatus.SUCCESS);
+		return history;
+	}
+
+	@Benchmark
+	public UUID timeOrderedUuid() {
+		return TimeOrderedUuidGenerator.next();
+	}
+
+	// 여러 요청 스레드가 동시에 식별자를 만들 때의 경합
+	@Benchmark
+	@Threads(8)
+	public UUID timeOrderedUuidContended() {
+		return TimeOrderedUuidGenerator.next();
+	}
+}
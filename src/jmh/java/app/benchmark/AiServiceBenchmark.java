@@ -0,0 +1,112 @@
+package app.benchmark;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.AiService;
+import app.benchmark.support.InMemoryAiHistoryRepository;
+import app.benchmark.support.StubChatModel;
+import app.commonUtil.security.TokenPrincipalParser;
+import app.global.async.AiJobExecutor;
+import app.global.cache.DescriptionResponseCache;
+import app.global.coalesce.RequestCoalescer;
+import app.global.metrics.LlmMetrics;
+import app.global.outbox.AiHistoryOutbox;
+import app.global.prompt.DescriptionPromptRegistry;
+import app.global.ratelimit.ConcurrencyLimitingChatModel;
+import app.global.resilience.LlmCallExecutor;
+import app.global.resilience.LlmCircuitBreaker;
+import app.global.routing.ModelRouter;
+import app.global.routing.ModelRoutingProperties;
+import app.model.dto.request.AiRequest;
+import app.model.dto.response.AiResponse;
+import app.model.entity.enums.ReqType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// OpenAI 와 DB 를 메모리 스텁으로 바꾼 AiService.generateDescription 전체 경로.
+// 검증, 엔티티 생성, 프롬프트 렌더링, 캐시, 라우팅, 재시도 래퍼, 지표 기록 비용을 합쳐서 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiServiceBenchmark {
+
+	private AiJobExecutor aiJobExecutor;
+	private LlmCallExecutor llmCallExecutor;
+	private AiService aiService;
+	private Authentication authentication;
+	private AiRequest cachedRequest;
+	private AiRequest uncachedRequest;
+
+	@Setup
+	public void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		LlmMetrics llmMetrics = new LlmMetrics(meterRegistry);
+		ConcurrencyLimitingChatModel chatModel = new ConcurrencyLimitingChatModel(
+			new StubChatModel("입안 가득 퍼지는 매콤달콤 떡볶이"), 64, Duration.ofSeconds(1));
+		ChatClient chatClient = ChatClient.builder(chatModel)
+			.defaultAdvisors(llmMetrics.advisor("describe"))
+			.build();
+		LlmCircuitBreaker circuitBreaker = new LlmCircuitBreaker(20, 10, 50, Duration.ofSeconds(30), 3);
+		llmCallExecutor = new LlmCallExecutor(circuitBreaker, meterRegistry, Duration.ofSeconds(20), 3,
+			Duration.ofMillis(200), Duration.ofSeconds(2), List.of(ReqType.MENU_DESCRIPTION), Duration.ofMillis(1500));
+		aiJobExecutor = new AiJobExecutor(4, 100, false);
+
+		aiService = new AiService(
+			InMemoryAiHistoryRepository.create(),
+			new AiHistoryOutbox(records -> {
+			}, new ObjectMapper(), meterRegistry, 10_000, 200, Duration.ofMillis(200), Duration.ofSeconds(20),
+				false, Path.of("build/tmp/ai-history-outbox"), 10_000, false),
+			chatClient,
+			new TokenPrincipalParser(),
+			aiJobExecutor,
+			new DescriptionResponseCache(10_000, Duration.ofHours(6), meterRegistry),
+			new DescriptionPromptRegistry(new ClassPathResource("prompts/description-prompts.yml")),
+			llmCallExecutor,
+			new ModelRouter(new ModelRoutingProperties(), chatModel, circuitBreaker, meterRegistry),
+			llmMetrics,
+			new RequestCoalescer(Duration.ofSeconds(25), Duration.ofMinutes(10), 100_000, meterRegistry));
+
+		authentication = new JwtAuthenticationToken(Jwt.withTokenValue("benchmark")
+			.header("alg", "none")
+			.claim("user_id", "1")
+			.build());
+		cachedRequest = new AiRequest("맛있는 분식", "떡볶이", ReqType.MENU_DESCRIPTION, "매콤함을 강조해줘");
+		uncachedRequest = new AiRequest("맛있는 분식", "떡볶이", ReqType.MENU_DESCRIPTION, "매콤함을 강조해줘");
+		uncachedRequest.setBypassCache(true);
+		aiService.generateDescription(authentication, cachedRequest, null);
+	}
+
+	@TearDown
+	public void tearDown() {
+		llmCallExecutor.destroy();
+		aiJobExecutor.destroy();
+	}
+
+	@Benchmark
+	public AiResponse generateDescriptionCacheHit() {
+		return aiService.generateDescription(authentication, cachedRequest, null);
+	}
+
+	@Benchmark
+	public AiResponse generateDescriptionStubModel() {
+		return aiService.generateDescription(authentication, uncachedRequest, null);
+	}
+}
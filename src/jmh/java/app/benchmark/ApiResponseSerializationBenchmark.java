@@ -0,0 +1,51 @@
+package app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.global.jpa.TimeOrderedUuidGenerator;
+import app.model.dto.response.AiResponse;
+import app.status.AiSuccessStatus;
+
+// 컨트롤러가 반환하는 ApiResponse<AiResponse> 의 JSON 직렬화 비용 (Spring MVC 와 같은 ObjectMapper 설정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+	private ObjectMapper objectMapper;
+	private ObjectWriter typedWriter;
+	private ApiResponse<AiResponse> response;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		typedWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+			.constructParametricType(ApiResponse.class, AiResponse.class));
+		response = ApiResponse.onSuccess(AiSuccessStatus.AI_RESPONDED,
+			new AiResponse(TimeOrderedUuidGenerator.next().toString(), "입안 가득 퍼지는 매콤달콤 떡볶이", false));
+	}
+
+	@Benchmark
+	public byte[] writeValueAsBytes() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] typedWriter() throws JsonProcessingException {
+		return typedWriter.writeValueAsBytes(response);
+	}
+}
@@ -0,0 +1,106 @@
+package app.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.InMemoryChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import app.global.memory.CachingChatMemoryRepository;
+import app.global.memory.ChatMemoryCompactionStats;
+import app.global.memory.TokenBudgetChatMemory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 채팅 한 턴마다 일어나는 대화 메모리 읽기(get)와 쓰기(add, 토큰 계산과 압축 포함) 비용.
+// JDBC 대신 메모리 저장소를 쓰고, 운영과 같은 캐시 계층과 토큰 예산 메모리를 그대로 올린다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatMemoryBenchmark {
+
+	// 메뉴 목록처럼 긴 응답이 섞인 대화인지 여부
+	@Param({"short", "menuListing"})
+	private String replyKind;
+
+	@Param({"1000"})
+	private int conversations;
+
+	private ChatMemory chatMemory;
+	private List<Message> turn;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		InMemoryChatMemoryRepository store = new InMemoryChatMemoryRepository();
+		// 운영의 버전 테이블 대신 대화별 쓰기 횟수로 캐시 사본을 검증한다.
+		Map<String, Long> versions = new ConcurrentHashMap<>();
+		CachingChatMemoryRepository repository = new CachingChatMemoryRepository(store,
+			new CachingChatMemoryRepository.ConversationVersions() {
+				@Override
+				public Object current(String conversationId) {
+					return versions.getOrDefault(conversationId, 0L);
+				}
+
+				@Override
+				public Object write(String conversationId, Runnable write) {
+					return versions.compute(conversationId, (id, version) -> {
+						write.run();
+						return version == null ? 1L : version + 1;
+					});
+				}
+			}, 20_000_000, Duration.ofSeconds(30), meterRegistry);
+		chatMemory = new TokenBudgetChatMemory(repository, new JTokkitTokenCountEstimator(),
+			new ChatMemoryCompactionStats(meterRegistry, 10_000, Duration.ofDays(7)), 2000, 300, 4, 120, 20);
+
+		String reply = "menuListing".equals(replyKind) ? menuListing() : "떡볶이 2인분을 장바구니에 담았어요.";
+		turn = List.of(new UserMessage("떡볶이 메뉴 보여줘"), new AssistantMessage(reply));
+		for (int i = 0; i < conversations; i++) {
+			for (int j = 0; j < 5; j++) {
+				chatMemory.add(conversationId(i), turn);
+			}
+		}
+	}
+
+	@Benchmark
+	public List<Message> get() {
+		return chatMemory.get(randomConversation());
+	}
+
+	@Benchmark
+	public void add() {
+		chatMemory.add(randomConversation(), turn);
+	}
+
+	private String randomConversation() {
+		return conversationId(ThreadLocalRandom.current().nextInt(conversations));
+	}
+
+	private static String conversationId(int index) {
+		return String.valueOf(index);
+	}
+
+	private static String menuListing() {
+		StringBuilder builder = new StringBuilder("맛있는 분식 메뉴 목록입니다.\n");
+		for (int i = 1; i <= 40; i++) {
+			builder.append(i).append(". 메뉴 ").append(i).append(" - ").append(3000 + i * 500).append("원, 매콤하고 달콤한 맛\n");
+		}
+		return builder.toString();
+	}
+}
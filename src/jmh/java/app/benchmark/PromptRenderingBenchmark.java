@@ -0,0 +1,57 @@
+package app.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import app.global.cache.DescriptionResponseCache;
+import app.global.prompt.DescriptionPrompt;
+import app.global.prompt.DescriptionPromptRegistry;
+import app.model.entity.enums.ReqType;
+
+// AiService 가 요청마다 수행하는 프롬프트 렌더링과 응답 캐시 키(SHA-256) 계산 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PromptRenderingBenchmark {
+
+	@Param({"STORE_DESCRIPTION", "MENU_DESCRIPTION"})
+	private ReqType reqType;
+
+	private DescriptionPromptRegistry descriptionPromptRegistry;
+	private Map<String, Object> variables;
+	private String renderedPrompt;
+
+	@Setup
+	public void setUp() {
+		descriptionPromptRegistry = new DescriptionPromptRegistry(new ClassPathResource("prompts/description-prompts.yml"));
+		DescriptionPrompt descriptionPrompt = descriptionPromptRegistry.get(reqType);
+		variables = Map.of("storeName", "맛있는 분식", "menuName", "떡볶이", "reqType", reqType,
+			"promptText", "매콤함을 강조하고 학생들이 좋아할 만한 문구로 작성해줘", "maxLength", descriptionPrompt.getMaxLength());
+		renderedPrompt = render();
+	}
+
+	@Benchmark
+	public String render() {
+		return descriptionPromptRegistry.get(reqType).render(variables);
+	}
+
+	@Benchmark
+	public String renderFallback() {
+		return descriptionPromptRegistry.getFallback(reqType).render(variables);
+	}
+
+	@Benchmark
+	public String cacheKey() {
+		return DescriptionResponseCache.keyOf("gpt-4.1-mini", renderedPrompt);
+	}
+}
@@ -0,0 +1,70 @@
+package app.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import app.model.dto.request.AiRequest;
+import app.model.dto.request.ConditionalNotNullValidator;
+import app.model.entity.enums.ReqType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+// @Valid AiRequest 검증 비용. 메뉴 이름 누락(위반 메시지 생성) 경로를 따로 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+	private ConditionalNotNullValidator conditionalNotNullValidator;
+	private AiRequest storeRequest;
+	private AiRequest menuRequest;
+	private AiRequest menuRequestWithoutMenuName;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		conditionalNotNullValidator = new ConditionalNotNullValidator();
+		storeRequest = new AiRequest("맛있는 분식", null, ReqType.STORE_DESCRIPTION, "따뜻한 분위기로 소개해줘");
+		menuRequest = new AiRequest("맛있는 분식", "떡볶이", ReqType.MENU_DESCRIPTION, "매콤함을 강조해줘");
+		menuRequestWithoutMenuName = new AiRequest("맛있는 분식", " ", ReqType.MENU_DESCRIPTION, "매콤함을 강조해줘");
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public boolean conditionalNotNullOnly() {
+		return conditionalNotNullValidator.isValid(menuRequest, null);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<AiRequest>> validateStoreRequest() {
+		return validator.validate(storeRequest);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<AiRequest>> validateMenuRequest() {
+		return validator.validate(menuRequest);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<AiRequest>> validateMenuRequestWithoutMenuName() {
+		return validator.validate(menuRequestWithoutMenuName);
+	}
+}
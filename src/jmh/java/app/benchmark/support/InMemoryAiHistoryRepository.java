@@ -0,0 +1,51 @@
+package app.benchmark.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import app.global.jpa.TimeOrderedUuidGenerator;
+import app.model.AiHistoryRepository;
+import app.model.entity.AiHistory;
+
+// save/saveAll 만 지원하는 저장소. 식별자만 채우고 아무것도 보관하지 않는다.
+public final class InMemoryAiHistoryRepository {
+
+	private static final Field AI_REQUEST_ID;
+
+	static {
+		try {
+			AI_REQUEST_ID = AiHistory.class.getDeclaredField("aiRequestId");
+			AI_REQUEST_ID.setAccessible(true);
+		} catch (NoSuchFieldException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private InMemoryAiHistoryRepository() {
+	}
+
+	public static AiHistoryRepository create() {
+		return (AiHistoryRepository) Proxy.newProxyInstance(AiHistoryRepository.class.getClassLoader(),
+			new Class<?>[] {AiHistoryRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+				case "save" -> assignId((AiHistory) args[0]);
+				case "saveAll" -> {
+					for (Object history : (Iterable<?>) args[0]) {
+						assignId((AiHistory) history);
+					}
+					yield args[0] instanceof List<?> ? args[0] : List.of();
+				}
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> "InMemoryAiHistoryRepository";
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	private static AiHistory assignId(AiHistory history) throws IllegalAccessException {
+		if (AI_REQUEST_ID.get(history) == null) {
+			AI_REQUEST_ID.set(history, TimeOrderedUuidGenerator.next());
+		}
+		return history;
+	}
+}
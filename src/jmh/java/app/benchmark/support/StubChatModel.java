@@ -0,0 +1,30 @@
+package app.benchmark.support;
+
+import java.util.List;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+// OpenAI 대신 고정 응답을 바로 돌려주는 모델. 벤치마크에서는 네트워크 지연을 빼고 서비스 코드만 측정한다.
+public class StubChatModel implements ChatModel {
+
+	private final ChatResponse response;
+
+	public StubChatModel(String content) {
+		this.response = new ChatResponse(List.of(new Generation(new AssistantMessage(content))),
+			ChatResponseMetadata.builder()
+				.model("stub-model")
+				.usage(new DefaultUsage(120, 30))
+				.build());
+	}
+
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		return response;
+	}
+}
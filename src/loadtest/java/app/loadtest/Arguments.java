@@ -0,0 +1,50 @@
+package app.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// --key=value 또는 --key value 형식의 실행 인자
+final class Arguments {
+
+	private final Map<String, String> values;
+
+	private Arguments(Map<String, String> values) {
+		this.values = values;
+	}
+
+	static Arguments parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < args.length; i++) {
+			if (!args[i].startsWith("--")) {
+				throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+			}
+			String key = args[i].substring(2);
+			int separator = key.indexOf('=');
+			if (separator >= 0) {
+				values.put(key.substring(0, separator), key.substring(separator + 1));
+			} else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+				values.put(key, args[++i]);
+			} else {
+				values.put(key, "true");
+			}
+		}
+		return new Arguments(values);
+	}
+
+	String string(String key, String defaultValue) {
+		return values.getOrDefault(key, defaultValue);
+	}
+
+	int intValue(String key, int defaultValue) {
+		return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+	}
+
+	double doubleValue(String key, double defaultValue) {
+		return values.containsKey(key) ? Double.parseDouble(values.get(key)) : defaultValue;
+	}
+
+	Duration duration(String key, Duration defaultValue) {
+		return values.containsKey(key) ? Duration.parse(values.get(key)) : defaultValue;
+	}
+}
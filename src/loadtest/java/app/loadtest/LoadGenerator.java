@@ -0,0 +1,566 @@
+package app.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// /ai/describe, /ai/chat, /ai/chat/stream (논블로킹 /ai/rx/describe, /ai/rx/chat) 에 동시 사용자 수만큼 요청을 반복해 보내고
+// 시나리오별 처리량, p50/p90/p99 지연 시간, 오류율, 상태 코드 분포를 출력한다.
+// 스트리밍은 첫 token 이벤트까지의 시간(TTFT)도 함께 집계한다.
+// 측정 구간 동안 서버의 /actuator/metrics 에서 CPU 사용량과 스레드 수를 읽어 코어당 처리량과 연결 수를 함께 출력한다.
+//
+// --scenario compare 는 --compare 의 시나리오를 서블릿 경로와 /ai/rx 경로로 번갈아 실행하고
+// --concurrency 에 쉼표로 준 동시 연결 수마다 두 경로를 나란히 비교한다. (서버와 부하 생성기는 다른 장비에서 실행해야 CPU 값이 정확하다)
+//
+// 토큰은 환경 변수로 전달한다. OWNER_TOKEN(/ai/describe), CUSTOMER_TOKEN(/ai/chat)
+// 실행 인자: --base-url http://localhost:8089 --scenario mixed --concurrency 20 --duration PT60S --warmup PT10S
+//          --distinct-menus 200 --out build/loadtest/result.json
+//          --scenario compare --compare describe,chat --concurrency 100,500,1000 --cooldown PT5S
+public class LoadGenerator {
+
+	private static final List<String> CHAT_MESSAGES = List.of(
+		"근처 분식집 찾아줘", "첫 번째 가게 메뉴 보여줘", "떡볶이 1개 장바구니에 담아줘", "주문해줘");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient httpClient;
+	private final String baseUrl;
+	private final String ownerToken;
+	private final String customerToken;
+	private final int distinctMenus;
+	private final Duration requestTimeout;
+
+	private LoadGenerator(Arguments arguments) {
+		this.baseUrl = arguments.string("base-url", "http://localhost:8089");
+		this.ownerToken = System.getenv("OWNER_TOKEN");
+		this.customerToken = System.getenv("CUSTOMER_TOKEN");
+		this.distinctMenus = arguments.intValue("distinct-menus", 200);
+		this.requestTimeout = arguments.duration("request-timeout", Duration.ofSeconds(60));
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Arguments arguments = Arguments.parse(args);
+		LoadGenerator generator = new LoadGenerator(arguments);
+		String scenario = arguments.string("scenario", "mixed");
+		List<Integer> concurrencies = Arrays.stream(arguments.string("concurrency", "20").split(","))
+			.map(value -> Integer.parseInt(value.trim()))
+			.toList();
+		List<Phase> phases = scenario.equals("compare")
+			? Phase.compare(Scenario.parse(arguments.string("compare", "describe,chat")), concurrencies)
+			: List.of(new Phase(scenario, Scenario.parse(scenario), concurrencies.get(0)));
+		phases.forEach(phase -> generator.checkTokens(phase.scenarios()));
+
+		Duration warmup = arguments.duration("warmup", Duration.ofSeconds(10));
+		Duration duration = arguments.duration("duration", Duration.ofSeconds(60));
+		Duration cooldown = arguments.duration("cooldown", Duration.ofSeconds(5));
+
+		List<PhaseResult> results = new ArrayList<>();
+		for (Phase phase : phases) {
+			if (!results.isEmpty()) {
+				Thread.sleep(cooldown.toMillis());
+			}
+			System.out.printf("Load test %s: phase=%s scenarios=%s concurrency=%d warmup=%s duration=%s%n",
+				generator.baseUrl, phase.name(), phase.scenarios(), phase.concurrency(), warmup, duration);
+			PhaseResult result = generator.run(phase, warmup, duration);
+			generator.report(result, duration);
+			results.add(result);
+		}
+		if (results.size() > 1) {
+			generator.compare(results, duration);
+		}
+
+		String out = arguments.string("out", null);
+		if (out != null) {
+			Path path = Path.of(out);
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			Files.writeString(path, generator.toJson(results, duration));
+			System.out.println("Result written to " + path.toAbsolutePath());
+		}
+	}
+
+	private void checkTokens(List<Scenario> scenarios) {
+		for (Scenario scenario : scenarios) {
+			String token = scenario.isOwner() ? ownerToken : customerToken;
+			if (token == null || token.isBlank()) {
+				throw new IllegalStateException((scenario.isOwner() ? "OWNER_TOKEN" : "CUSTOMER_TOKEN")
+					+ " environment variable is required for scenario " + scenario);
+			}
+		}
+	}
+
+	// 워커마다 Stats 를 따로 모은 뒤 마지막에 합쳐 측정 중 경합을 없앤다.
+	private PhaseResult run(Phase phase, Duration warmup, Duration duration)
+		throws InterruptedException {
+		List<Scenario> scenarios = phase.scenarios();
+		int concurrency = phase.concurrency();
+		long measureFrom = System.nanoTime() + warmup.toNanos();
+		long deadline = measureFrom + duration.toNanos();
+		List<Map<Scenario, Stats>> workerStats = new ArrayList<>();
+		Future<ServerUsage> serverUsage;
+
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			serverUsage = workers.submit(() -> sampleServer(measureFrom, deadline));
+			for (int worker = 0; worker < concurrency; worker++) {
+				Map<Scenario, Stats> stats = new EnumMap<>(Scenario.class);
+				scenarios.forEach(scenario -> stats.put(scenario, new Stats()));
+				workerStats.add(stats);
+				int workerId = worker;
+				workers.execute(() -> {
+					int iteration = 0;
+					while (System.nanoTime() < deadline) {
+						Scenario scenario = scenarios.get((workerId + iteration) % scenarios.size());
+						Sample sample = execute(scenario, workerId, iteration++);
+						if (sample.startedAt() >= measureFrom && sample.startedAt() < deadline) {
+							stats.get(scenario).add(sample);
+						}
+					}
+				});
+			}
+		}
+
+		Map<Scenario, Stats> merged = new EnumMap<>(Scenario.class);
+		for (Scenario scenario : scenarios) {
+			Stats total = new Stats();
+			workerStats.forEach(stats -> total.merge(stats.get(scenario)));
+			merged.put(scenario, total);
+		}
+		try {
+			return new PhaseResult(phase, merged, serverUsage.get());
+		} catch (ExecutionException e) {
+			return new PhaseResult(phase, merged, ServerUsage.UNAVAILABLE);
+		}
+	}
+
+	// 1초마다 서버 지표를 읽는다. 지표를 읽을 수 없으면(권한, 노출 설정) NaN 으로 남긴다.
+	private ServerUsage sampleServer(long measureFrom, long deadline) throws InterruptedException {
+		long untilMeasure = measureFrom - System.nanoTime();
+		if (untilMeasure > 0) {
+			Thread.sleep(Duration.ofNanos(untilMeasure));
+		}
+		double cpuCount = metric("system.cpu.count");
+		double cpuUsageSum = 0;
+		int cpuSamples = 0;
+		double peakThreads = Double.NaN;
+		double peakBusyThreads = Double.NaN;
+		while (System.nanoTime() < deadline) {
+			double cpuUsage = metric("process.cpu.usage");
+			if (!Double.isNaN(cpuUsage)) {
+				cpuUsageSum += cpuUsage;
+				cpuSamples++;
+			}
+			peakThreads = max(peakThreads, metric("jvm.threads.live"));
+			peakBusyThreads = max(peakBusyThreads, metric("tomcat.threads.busy"));
+			Thread.sleep(1000);
+		}
+		double cpuCores = cpuSamples == 0 || Double.isNaN(cpuCount) ? Double.NaN : cpuUsageSum / cpuSamples * cpuCount;
+		return new ServerUsage(cpuCount, cpuCores, peakThreads, peakBusyThreads);
+	}
+
+	private double metric(String name) throws InterruptedException {
+		String token = ownerToken != null ? ownerToken : customerToken;
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name))
+			.timeout(Duration.ofSeconds(5))
+			.GET();
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		try {
+			HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				return Double.NaN;
+			}
+			return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble(Double.NaN);
+		} catch (IOException e) {
+			return Double.NaN;
+		}
+	}
+
+	private static double max(double current, double value) {
+		return Double.isNaN(current) ? value : Double.isNaN(value) ? current : Math.max(current, value);
+	}
+
+	private Sample execute(Scenario scenario, int workerId, int iteration) {
+		long startedAt = System.nanoTime();
+		try {
+			return switch (scenario) {
+				case DESCRIBE -> describe(startedAt, "/ai/describe");
+				case DESCRIBE_RX -> describe(startedAt, "/ai/rx/describe");
+				case CHAT -> chat(startedAt, "/ai/chat", CHAT_MESSAGES.get(iteration % CHAT_MESSAGES.size()));
+				case CHAT_RX -> chat(startedAt, "/ai/rx/chat", CHAT_MESSAGES.get(iteration % CHAT_MESSAGES.size()));
+				case CHAT_STREAM -> chatStream(startedAt, CHAT_MESSAGES.get((workerId + iteration) % CHAT_MESSAGES.size()));
+			};
+		} catch (IOException e) {
+			return new Sample(startedAt, System.nanoTime() - startedAt, -1, 0, "io:" + e.getClass().getSimpleName());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new Sample(startedAt, System.nanoTime() - startedAt, -1, 0, "interrupted");
+		}
+	}
+
+	// 가게/메뉴 조합을 distinct-menus 범위에서 골라 캐시 적중과 미스가 섞이도록 한다.
+	private Sample describe(long startedAt, String path) throws IOException, InterruptedException {
+		int menu = ThreadLocalRandom.current().nextInt(distinctMenus);
+		ObjectNode body = objectMapper.createObjectNode()
+			.put("storeName", "부하테스트가게" + (menu % 20))
+			.put("menuName", "메뉴" + menu)
+			.put("reqType", "MENU_DESCRIPTION")
+			.put("promptText", "재료와 맛이 잘 드러나게 소개해 주세요.");
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.timeout(requestTimeout)
+			.header("Authorization", "Bearer " + ownerToken)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+			.build();
+		HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		return Sample.of(startedAt, response.statusCode());
+	}
+
+	private Sample chat(long startedAt, String path, String message) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(chatUri(path, message))
+			.timeout(requestTimeout)
+			.header("Authorization", "Bearer " + customerToken)
+			.GET()
+			.build();
+		HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		return Sample.of(startedAt, response.statusCode());
+	}
+
+	// done 이벤트를 받아야 성공으로 보고, error 이벤트나 중간 종료는 실패로 집계한다.
+	private Sample chatStream(long startedAt, String message) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(chatUri("/ai/chat/stream", message))
+			.timeout(requestTimeout)
+			.header("Authorization", "Bearer " + customerToken)
+			.header("Accept", "text/event-stream")
+			.GET()
+			.build();
+		HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+		if (response.statusCode() / 100 != 2) {
+			response.body().close();
+			return Sample.of(startedAt, response.statusCode());
+		}
+
+		long firstToken = 0;
+		String outcome = "incomplete";
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.startsWith("event:")) {
+					continue;
+				}
+				String event = line.substring("event:".length()).trim();
+				if (event.equals("token") && firstToken == 0) {
+					firstToken = System.nanoTime() - startedAt;
+				} else if (event.equals("done") || event.equals("error")) {
+					outcome = event;
+					break;
+				}
+			}
+		}
+		long latency = System.nanoTime() - startedAt;
+		return outcome.equals("done")
+			? new Sample(startedAt, latency, response.statusCode(), firstToken, null)
+			: new Sample(startedAt, latency, response.statusCode(), firstToken, "stream:" + outcome);
+	}
+
+	private URI chatUri(String path, String message) {
+		return URI.create(baseUrl + path + "?message=" + URLEncoder.encode(message, StandardCharsets.UTF_8));
+	}
+
+	private void report(PhaseResult phaseResult, Duration duration) {
+		Map<Scenario, Stats> result = phaseResult.stats();
+		double seconds = duration.toMillis() / 1000.0;
+		System.out.printf("%n%-12s %8s %9s %8s %9s %9s %9s %9s %10s %10s%n",
+			"scenario", "requests", "req/s", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "ttft50(ms)", "ttft99(ms)");
+		result.forEach((scenario, stats) -> {
+			long[] latencies = stats.sortedLatencies();
+			long[] ttfts = stats.sortedTtfts();
+			System.out.printf("%-12s %8d %9.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f %10s %10s%n",
+				scenario.name().toLowerCase(), stats.count(), stats.count() / seconds, stats.errorRate() * 100,
+				millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.90)),
+				millis(percentile(latencies, 0.99)), millis(percentile(latencies, 1.0)),
+				ttfts.length == 0 ? "-" : String.format("%.1f", millis(percentile(ttfts, 0.50))),
+				ttfts.length == 0 ? "-" : String.format("%.1f", millis(percentile(ttfts, 0.99))));
+		});
+		System.out.println();
+		result.forEach((scenario, stats) ->
+			System.out.printf("%-12s outcomes=%s%n", scenario.name().toLowerCase(), stats.outcomes()));
+		ServerUsage server = phaseResult.server();
+		System.out.printf("server: cpus=%s cpuCores=%s peakThreads=%s peakTomcatBusy=%s req/s/core=%s connections/core=%s%n%n",
+			number(server.cpuCount()), number(server.cpuCores()), number(server.peakThreads()),
+			number(server.peakBusyThreads()), number(phaseResult.throughputPerCore(seconds)),
+			number(phaseResult.connectionsPerCore()));
+	}
+
+	// 같은 동시 연결 수에서 서블릿 경로와 /ai/rx 경로를 나란히 출력한다.
+	private void compare(List<PhaseResult> results, Duration duration) {
+		double seconds = duration.toMillis() / 1000.0;
+		System.out.printf("%-16s %11s %9s %9s %8s %9s %11s %10s %12s %11s%n", "phase", "concurrency", "req/s",
+			"p99(ms)", "errors", "cpuCores", "req/s/core", "conn/core", "peakThreads", "tomcatBusy");
+		for (PhaseResult result : results) {
+			System.out.printf("%-16s %11d %9.1f %9.1f %7.2f%% %9s %11s %10s %12s %11s%n", result.phase().name(),
+				result.phase().concurrency(), result.throughput(seconds), millis(result.p99()),
+				result.errorRate() * 100, number(result.server().cpuCores()), number(result.throughputPerCore(seconds)),
+				number(result.connectionsPerCore()), number(result.server().peakThreads()),
+				number(result.server().peakBusyThreads()));
+		}
+		System.out.println();
+	}
+
+	private static String number(double value) {
+		return Double.isNaN(value) ? "-" : String.format("%.1f", value);
+	}
+
+	private String toJson(List<PhaseResult> results, Duration duration) throws IOException {
+		double seconds = duration.toMillis() / 1000.0;
+		ObjectNode root = objectMapper.createObjectNode()
+			.put("baseUrl", baseUrl)
+			.put("durationSeconds", seconds);
+		ArrayNode phases = root.putArray("phases");
+		for (PhaseResult result : results) {
+			ObjectNode phase = phases.addObject()
+				.put("phase", result.phase().name())
+				.put("concurrency", result.phase().concurrency())
+				.put("throughput", result.throughput(seconds))
+				.put("errorRate", result.errorRate());
+			ServerUsage server = result.server();
+			putNumber(phase, "serverCpus", server.cpuCount());
+			putNumber(phase, "serverCpuCores", server.cpuCores());
+			putNumber(phase, "serverPeakThreads", server.peakThreads());
+			putNumber(phase, "serverPeakTomcatBusy", server.peakBusyThreads());
+			putNumber(phase, "throughputPerCore", result.throughputPerCore(seconds));
+			putNumber(phase, "connectionsPerCore", result.connectionsPerCore());
+			scenariosJson(phase.putArray("scenarios"), result, seconds);
+		}
+		return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+	}
+
+	private static void putNumber(ObjectNode node, String field, double value) {
+		if (!Double.isNaN(value)) {
+			node.put(field, value);
+		}
+	}
+
+	private void scenariosJson(ArrayNode nodes, PhaseResult result, double seconds) {
+		for (Scenario scenario : result.phase().scenarios()) {
+			Stats stats = result.stats().get(scenario);
+			long[] latencies = stats.sortedLatencies();
+			long[] ttfts = stats.sortedTtfts();
+			ObjectNode node = nodes.addObject()
+				.put("scenario", scenario.name().toLowerCase())
+				.put("requests", stats.count())
+				.put("throughput", stats.count() / seconds)
+				.put("errorRate", stats.errorRate())
+				.put("p50Ms", millis(percentile(latencies, 0.50)))
+				.put("p90Ms", millis(percentile(latencies, 0.90)))
+				.put("p99Ms", millis(percentile(latencies, 0.99)))
+				.put("maxMs", millis(percentile(latencies, 1.0)));
+			if (ttfts.length > 0) {
+				node.put("ttftP50Ms", millis(percentile(ttfts, 0.50)))
+					.put("ttftP99Ms", millis(percentile(ttfts, 0.99)));
+			}
+			node.set("outcomes", objectMapper.valueToTree(stats.outcomes()));
+		}
+	}
+
+	// nearest-rank 방식
+	private static long percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int)Math.ceil(quantile * sorted.length);
+		return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private enum Scenario {
+		DESCRIBE, CHAT, CHAT_STREAM, DESCRIBE_RX, CHAT_RX;
+
+		static List<Scenario> parse(String value) {
+			if (value.equals("mixed")) {
+				return List.of(DESCRIBE, CHAT, CHAT_STREAM);
+			}
+			return Arrays.stream(value.split(","))
+				.map(name -> Scenario.valueOf(name.trim().replace('-', '_').toUpperCase()))
+				.toList();
+		}
+
+		boolean isOwner() {
+			return this == DESCRIBE || this == DESCRIBE_RX;
+		}
+
+		Scenario reactive() {
+			return switch (this) {
+				case DESCRIBE, DESCRIBE_RX -> DESCRIBE_RX;
+				case CHAT, CHAT_RX -> CHAT_RX;
+				case CHAT_STREAM -> throw new IllegalArgumentException("chat_stream is already non-blocking; compare chat instead");
+			};
+		}
+
+		Scenario servlet() {
+			return switch (this) {
+				case DESCRIBE, DESCRIBE_RX -> DESCRIBE;
+				case CHAT, CHAT_RX -> CHAT;
+				case CHAT_STREAM -> throw new IllegalArgumentException("chat_stream is already non-blocking; compare chat instead");
+			};
+		}
+	}
+
+	private record Phase(String name, List<Scenario> scenarios, int concurrency) {
+
+		static List<Phase> compare(List<Scenario> scenarios, List<Integer> concurrencies) {
+			List<Scenario> servlet = scenarios.stream().map(Scenario::servlet).distinct().toList();
+			List<Scenario> reactive = scenarios.stream().map(Scenario::reactive).distinct().toList();
+			List<Phase> phases = new ArrayList<>();
+			for (int concurrency : concurrencies) {
+				phases.add(new Phase("servlet", servlet, concurrency));
+				phases.add(new Phase("rx", reactive, concurrency));
+			}
+			return phases;
+		}
+	}
+
+	// cpuCores 는 측정 구간 평균 process.cpu.usage x cpu 수 (서버가 실제로 쓴 코어 수)
+	private record ServerUsage(double cpuCount, double cpuCores, double peakThreads, double peakBusyThreads) {
+
+		static final ServerUsage UNAVAILABLE = new ServerUsage(Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+	}
+
+	private record PhaseResult(Phase phase, Map<Scenario, Stats> stats, ServerUsage server) {
+
+		int count() {
+			return stats.values().stream().mapToInt(Stats::count).sum();
+		}
+
+		double throughput(double seconds) {
+			return count() / seconds;
+		}
+
+		double errorRate() {
+			int count = count();
+			return count == 0 ? 0 : stats.values().stream().mapToDouble(s -> s.errorRate() * s.count()).sum() / count;
+		}
+
+		long p99() {
+			Stats total = new Stats();
+			stats.values().forEach(total::merge);
+			return percentile(total.sortedLatencies(), 0.99);
+		}
+
+		double throughputPerCore(double seconds) {
+			return server.cpuCores() > 0 ? throughput(seconds) / server.cpuCores() : Double.NaN;
+		}
+
+		double connectionsPerCore() {
+			return server.cpuCores() > 0 ? phase.concurrency() / server.cpuCores() : Double.NaN;
+		}
+	}
+
+	// error 가 null 이면 성공. status 가 -1 이면 응답을 받지 못한 경우
+	private record Sample(long startedAt, long latency, int status, long ttft, String error) {
+
+		static Sample of(long startedAt, int status) {
+			return new Sample(startedAt, System.nanoTime() - startedAt, status, 0,
+				status / 100 == 2 ? null : "http:" + status);
+		}
+	}
+
+	private static final class Stats {
+
+		private long[] latencies = new long[1024];
+		private long[] ttfts = new long[1024];
+		private int count;
+		private int ttftCount;
+		private int errors;
+		private final Map<String, Integer> outcomes = new TreeMap<>();
+
+		void add(Sample sample) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = sample.latency();
+			if (sample.ttft() > 0) {
+				if (ttftCount == ttfts.length) {
+					ttfts = Arrays.copyOf(ttfts, ttftCount * 2);
+				}
+				ttfts[ttftCount++] = sample.ttft();
+			}
+			if (sample.error() != null) {
+				errors++;
+			}
+			outcomes.merge(sample.error() == null ? "ok" : sample.error(), 1, Integer::sum);
+		}
+
+		void merge(Stats other) {
+			latencies = concat(latencies, count, other.latencies, other.count);
+			count += other.count;
+			ttfts = concat(ttfts, ttftCount, other.ttfts, other.ttftCount);
+			ttftCount += other.ttftCount;
+			errors += other.errors;
+			other.outcomes.forEach((outcome, n) -> outcomes.merge(outcome, n, Integer::sum));
+		}
+
+		private static long[] concat(long[] left, int leftCount, long[] right, int rightCount) {
+			long[] merged = Arrays.copyOf(left, Math.max(left.length, leftCount + rightCount));
+			System.arraycopy(right, 0, merged, leftCount, rightCount);
+			return merged;
+		}
+
+		int count() {
+			return count;
+		}
+
+		double errorRate() {
+			return count == 0 ? 0 : (double)errors / count;
+		}
+
+		long[] sortedLatencies() {
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		long[] sortedTtfts() {
+			long[] sorted = Arrays.copyOf(ttfts, ttftCount);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		Map<String, Integer> outcomes() {
+			return outcomes;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// MCP SSE 전송 방식의 스텁 서버. 가게 검색, 메뉴 조회, 장바구니 담기, 주문 생성 도구를 제공한다.
+// - GET /sse 로 연결하면 endpoint 이벤트로 메시지 경로를 알려주고, JSON-RPC 응답은 같은 SSE 연결로 보낸다.
+// - POST /mcp/message?sessionId= 는 202 로 바로 응답하고 요청은 별도 가상 스레드에서 처리한다.
+//
+// 실행 인자: --port 18099 --tool-latency-ms 50 --tool-jitter-ms 50 --menu-count 40 --error-rate 0.0
+public class StubMcpServer {
+
+	private static final String PROTOCOL_VERSION = "2024-11-05";
+	private static final long HEARTBEAT_MILLIS = 15_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+	private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+	private final int toolLatencyMillis;
+	private final int toolJitterMillis;
+	private final int menuCount;
+	private final double errorRate;
+
+	private StubMcpServer(Arguments arguments) {
+		this.toolLatencyMillis = arguments.intValue("tool-latency-ms", 50);
+		this.toolJitterMillis = arguments.intValue("tool-jitter-ms", 50);
+		this.menuCount = arguments.intValue("menu-count", 40);
+		this.errorRate = arguments.doubleValue("error-rate", 0.0);
+	}
+
+	public static void main(String[] args) throws IOException {
+		Arguments arguments = Arguments.parse(args);
+		StubMcpServer stub = new StubMcpServer(arguments);
+		int port = arguments.intValue("port", 18099);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/sse", stub::connect);
+		server.createContext("/mcp/message", stub::message);
+		server.start();
+		System.out.printf("Stub MCP server listening on http://localhost:%d/sse (tool-latency=%dms, jitter=%dms, error-rate=%.2f)%n",
+			port, stub.toolLatencyMillis, stub.toolJitterMillis, stub.errorRate);
+	}
+
+	// 연결이 끊길 때까지 요청 스레드를 붙잡고 주기적으로 주석 이벤트를 보내 연결을 확인한다.
+	private void connect(HttpExchange exchange) throws IOException {
+		if (!"GET".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(405, -1);
+			exchange.close();
+			return;
+		}
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+		exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+		exchange.sendResponseHeaders(200, 0);
+
+		String sessionId = UUID.randomUUID().toString();
+		Session session = new Session(exchange.getResponseBody());
+		sessions.put(sessionId, session);
+		try {
+			session.send("endpoint", "/mcp/message?sessionId=" + sessionId);
+			while (true) {
+				Thread.sleep(HEARTBEAT_MILLIS);
+				session.comment("heartbeat");
+			}
+		} catch (IOException | InterruptedException e) {
+			// 클라이언트 연결 종료
+		} finally {
+			sessions.remove(sessionId);
+			exchange.close();
+		}
+	}
+
+	private void message(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String query = exchange.getRequestURI().getQuery();
+			Session session = query != null && query.startsWith("sessionId=")
+				? sessions.get(query.substring("sessionId=".length())) : null;
+			if (!"POST".equals(exchange.getRequestMethod()) || session == null) {
+				exchange.sendResponseHeaders(session == null ? 404 : 405, -1);
+				return;
+			}
+			JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+			exchange.sendResponseHeaders(202, -1);
+			workers.execute(() -> dispatch(session, request));
+		}
+	}
+
+	private void dispatch(Session session, JsonNode request) {
+		if (!request.has("id") || !request.has("method")) {
+			return; // 알림(notifications/initialized 등)과 클라이언트 응답은 무시한다.
+		}
+		ObjectNode response = objectMapper.createObjectNode().put("jsonrpc", "2.0");
+		response.set("id", request.get("id"));
+		JsonNode params = request.path("params");
+		switch (request.get("method").asText()) {
+			case "initialize" -> {
+				ObjectNode result = response.putObject("result")
+					.put("protocolVersion", params.path("protocolVersion").asText(PROTOCOL_VERSION));
+				result.putObject("capabilities").putObject("tools").put("listChanged", false);
+				result.putObject("serverInfo").put("name", "stub-mcp-server").put("version", "1.0.0");
+			}
+			case "ping" -> response.putObject("result");
+			case "tools/list" -> response.putObject("result").set("tools", tools());
+			case "tools/call" -> response.set("result", callTool(params.path("name").asText(), params.path("arguments")));
+			default -> response.putObject("error")
+				.put("code", -32601)
+				.put("message", "Method not found: " + request.get("method").asText());
+		}
+		try {
+			session.send("message", response.toString());
+		} catch (IOException e) {
+			// 세션이 이미 끊겼으면 응답을 버린다.
+		}
+	}
+
+	private ArrayNode tools() {
+		ArrayNode tools = objectMapper.createArrayNode();
+		addTool(tools, "searchStores", "키워드로 주문 가능한 가게를 검색합니다.", Map.of("keyword", "string"), "keyword");
+		addTool(tools, "getStoreMenus", "가게의 메뉴 목록과 가격을 조회합니다.", Map.of("storeKey", "string"), "storeKey");
+		addTool(tools, "addCartItem", "장바구니에 메뉴를 담습니다.",
+			Map.of("storeKey", "string", "menuName", "string", "quantity", "integer"), "storeKey", "menuName");
+		addTool(tools, "createOrder", "장바구니의 메뉴로 주문을 생성합니다.", Map.of("storeKey", "string"), "storeKey");
+		return tools;
+	}
+
+	private static void addTool(ArrayNode tools, String name, String description, Map<String, String> properties,
+		String... required) {
+		ObjectNode tool = tools.addObject().put("name", name).put("description", description);
+		ObjectNode schema = tool.putObject("inputSchema").put("type", "object");
+		ObjectNode propertyNodes = schema.putObject("properties");
+		properties.forEach((property, type) -> propertyNodes.putObject(property).put("type", type));
+		ArrayNode requiredNode = schema.putArray("required");
+		for (String property : required) {
+			requiredNode.add(property);
+		}
+	}
+
+	private ObjectNode callTool(String name, JsonNode arguments) {
+		int jitter = toolJitterMillis > 0 ? ThreadLocalRandom.current().nextInt(toolJitterMillis + 1) : 0;
+		sleep(toolLatencyMillis + jitter);
+
+		if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+			return toolResult("도구 실행에 실패했습니다. (stub)", true);
+		}
+		String storeKey = arguments.path("storeKey").asText("store-1");
+		return switch (name) {
+			case "searchStores" -> {
+				ArrayNode stores = objectMapper.createArrayNode();
+				for (int i = 1; i <= 5; i++) {
+					stores.addObject()
+						.put("storeKey", "store-" + i)
+						.put("storeName", arguments.path("keyword").asText("맛집") + " " + i + "호점")
+						.put("rating", 4.0 + i / 10.0);
+				}
+				yield toolResult(stores.toString(), false);
+			}
+			case "getStoreMenus" -> {
+				ArrayNode menus = objectMapper.createArrayNode();
+				for (int i = 1; i <= menuCount; i++) {
+					menus.addObject()
+						.put("menuName", "메뉴" + i)
+						.put("price", 5000 + i * 500)
+						.put("description", storeKey + "의 인기 메뉴 " + i + "번, 매일 아침 손질한 재료로 만듭니다.");
+				}
+				yield toolResult(menus.toString(), false);
+			}
+			case "addCartItem" -> toolResult(objectMapper.createObjectNode()
+				.put("storeKey", storeKey)
+				.put("menuName", arguments.path("menuName").asText())
+				.put("quantity", arguments.path("quantity").asInt(1))
+				.put("cartItemCount", ThreadLocalRandom.current().nextInt(1, 5))
+				.toString(), false);
+			case "createOrder" -> toolResult(objectMapper.createObjectNode()
+				.put("orderId", UUID.randomUUID().toString())
+				.put("storeKey", storeKey)
+				.put("status", "PENDING")
+				.toString(), false);
+			default -> toolResult("Unknown tool: " + name, true);
+		};
+	}
+
+	private ObjectNode toolResult(String text, boolean error) {
+		ObjectNode result = objectMapper.createObjectNode();
+		result.putArray("content").addObject().put("type", "text").put("text", text);
+		result.put("isError", error);
+		return result;
+	}
+
+	private static void sleep(int millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 같은 SSE 연결로 여러 응답이 동시에 쓰이지 않도록 직렬화한다.
+	private static final class Session {
+
+		private final OutputStream body;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private Session(OutputStream body) {
+			this.body = body;
+		}
+
+		void send(String event, String data) throws IOException {
+			write("event: " + event + "\ndata: " + data + "\n\n");
+		}
+
+		void comment(String text) throws IOException {
+			write(": " + text + "\n\n");
+		}
+
+		private void write(String frame) throws IOException {
+			lock.lock();
+			try {
+				body.write(frame.getBytes(StandardCharsets.UTF_8));
+				body.flush();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,291 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// OpenAI Chat Completions 호환 스텁 서버.
+// - 도구 목록과 함께 사용자 메시지가 오면 도구 호출을 응답하고, 도구 결과가 오면 최종 답변을 응답한다.
+// - 배치 설명 프롬프트([index] 항목)에는 index/content JSON 배열로 응답한다.
+// - stream=true 이면 토큰 단위 SSE 청크로 응답하고 stream_options.include_usage 면 사용량 청크를 붙인다.
+//
+// 실행 인자: --port 18080 --latency-ms 300 --jitter-ms 100 --token-interval-ms 20 --answer-tokens 40 --error-rate 0.0
+public class StubOpenAiServer {
+
+	private static final Pattern BATCH_ITEM = Pattern.compile("^\\[(\\d+)]", Pattern.MULTILINE);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final int latencyMillis;
+	private final int jitterMillis;
+	private final int tokenIntervalMillis;
+	private final int answerTokens;
+	private final double errorRate;
+
+	private StubOpenAiServer(Arguments arguments) {
+		this.latencyMillis = arguments.intValue("latency-ms", 300);
+		this.jitterMillis = arguments.intValue("jitter-ms", 100);
+		this.tokenIntervalMillis = arguments.intValue("token-interval-ms", 20);
+		this.answerTokens = arguments.intValue("answer-tokens", 40);
+		this.errorRate = arguments.doubleValue("error-rate", 0.0);
+	}
+
+	public static void main(String[] args) throws IOException {
+		Arguments arguments = Arguments.parse(args);
+		StubOpenAiServer stub = new StubOpenAiServer(arguments);
+		int port = arguments.intValue("port", 18080);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/v1/chat/completions", stub::handle);
+		server.start();
+		System.out.printf("Stub OpenAI listening on http://localhost:%d (latency=%dms, jitter=%dms, token-interval=%dms, error-rate=%.2f)%n",
+			port, stub.latencyMillis, stub.jitterMillis, stub.tokenIntervalMillis, stub.errorRate);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+			sleep(latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextInt(jitterMillis + 1) : 0));
+
+			if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				boolean rateLimited = ThreadLocalRandom.current().nextBoolean();
+				ObjectNode error = objectMapper.createObjectNode();
+				error.putObject("error")
+					.put("message", rateLimited ? "Rate limit reached (stub)" : "Internal error (stub)")
+					.put("type", rateLimited ? "rate_limit_exceeded" : "server_error");
+				sendJson(exchange, rateLimited ? 429 : 500, error);
+				return;
+			}
+
+			Reply reply = reply(request);
+			if (request.path("stream").asBoolean(false)) {
+				stream(exchange, request, reply);
+			} else {
+				complete(exchange, request, reply);
+			}
+		}
+	}
+
+	private Reply reply(JsonNode request) {
+		JsonNode messages = request.path("messages");
+		JsonNode last = messages.get(messages.size() - 1);
+		JsonNode tools = request.path("tools");
+		if (tools.isArray() && !tools.isEmpty() && "user".equals(last.path("role").asText())) {
+			List<ToolCall> toolCalls = toolCallsFor(textOf(last), tools);
+			if (!toolCalls.isEmpty()) {
+				return new Reply(null, toolCalls);
+			}
+		}
+
+		String userText = lastUserText(messages);
+		Matcher matcher = BATCH_ITEM.matcher(userText);
+		if (matcher.find()) {
+			ArrayNode items = objectMapper.createArrayNode();
+			do {
+				items.addObject()
+					.put("index", Integer.parseInt(matcher.group(1)))
+					.put("content", "스텁이 생성한 " + matcher.group(1) + "번 메뉴 설명");
+			} while (matcher.find());
+			return new Reply(items.toString(), List.of());
+		}
+
+		StringBuilder answer = new StringBuilder();
+		for (int i = 0; i < answerTokens; i++) {
+			answer.append(i == 0 ? "" : " ").append("스텁응답").append(i);
+		}
+		return new Reply(answer.toString(), List.of());
+	}
+
+	// 사용자 메시지의 의도에 맞는 도구를 고른다. 가게 검색은 메뉴 조회와 함께 요청해 병렬 도구 실행을 만든다.
+	private List<ToolCall> toolCallsFor(String userText, JsonNode tools) {
+		List<ToolCall> toolCalls = new ArrayList<>();
+		if (userText.contains("주문")) {
+			addToolCall(toolCalls, tools, "createOrder", "{\"storeKey\":\"store-1\"}");
+		} else if (userText.contains("담아") || userText.contains("장바구니")) {
+			addToolCall(toolCalls, tools, "addCartItem", "{\"storeKey\":\"store-1\",\"menuName\":\"떡볶이\",\"quantity\":1}");
+		} else if (userText.contains("메뉴")) {
+			addToolCall(toolCalls, tools, "getStoreMenus", "{\"storeKey\":\"store-1\"}");
+		} else {
+			addToolCall(toolCalls, tools, "searchStores", "{\"keyword\":\"분식\"}");
+			addToolCall(toolCalls, tools, "getStoreMenus", "{\"storeKey\":\"store-1\"}");
+		}
+		return toolCalls;
+	}
+
+	// MCP 도구 이름에는 클라이언트 이름이 접두어로 붙으므로 끝 이름으로 찾는다.
+	private static void addToolCall(List<ToolCall> toolCalls, JsonNode tools, String toolName, String arguments) {
+		for (JsonNode tool : tools) {
+			String name = tool.path("function").path("name").asText();
+			if (name.equals(toolName) || name.endsWith("_" + toolName)) {
+				toolCalls.add(new ToolCall("call_" + UUID.randomUUID().toString().replace("-", ""), name, arguments));
+				return;
+			}
+		}
+	}
+
+	private void complete(HttpExchange exchange, JsonNode request, Reply reply) throws IOException {
+		ObjectNode response = objectMapper.createObjectNode()
+			.put("id", "chatcmpl-" + UUID.randomUUID())
+			.put("object", "chat.completion")
+			.put("created", System.currentTimeMillis() / 1000)
+			.put("model", request.path("model").asText("stub-model"));
+		ObjectNode choice = response.putArray("choices").addObject().put("index", 0);
+		ObjectNode message = choice.putObject("message").put("role", "assistant");
+		if (reply.toolCalls().isEmpty()) {
+			message.put("content", reply.content());
+			choice.put("finish_reason", "stop");
+		} else {
+			message.putNull("content");
+			writeToolCalls(message.putArray("tool_calls"), reply.toolCalls());
+			choice.put("finish_reason", "tool_calls");
+		}
+		writeUsage(response.putObject("usage"), request, reply);
+		sendJson(exchange, 200, response);
+	}
+
+	private void stream(HttpExchange exchange, JsonNode request, Reply reply) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+		exchange.sendResponseHeaders(200, 0);
+		OutputStream body = exchange.getResponseBody();
+		String id = "chatcmpl-" + UUID.randomUUID();
+		String model = request.path("model").asText("stub-model");
+
+		if (reply.toolCalls().isEmpty()) {
+			String[] pieces = reply.content().split("(?<= )");
+			for (int i = 0; i < pieces.length; i++) {
+				ObjectNode chunk = chunk(id, model);
+				ObjectNode delta = ((ObjectNode) chunk.withArray("choices").get(0)).putObject("delta");
+				if (i == 0) {
+					delta.put("role", "assistant");
+				}
+				delta.put("content", pieces[i]);
+				writeEvent(body, chunk.toString());
+				sleep(tokenIntervalMillis);
+			}
+		} else {
+			ObjectNode chunk = chunk(id, model);
+			ObjectNode delta = ((ObjectNode) chunk.withArray("choices").get(0)).putObject("delta").put("role", "assistant");
+			writeToolCalls(delta.putArray("tool_calls"), reply.toolCalls());
+			writeEvent(body, chunk.toString());
+		}
+
+		ObjectNode finish = chunk(id, model);
+		((ObjectNode) finish.withArray("choices").get(0))
+			.put("finish_reason", reply.toolCalls().isEmpty() ? "stop" : "tool_calls")
+			.putObject("delta");
+		writeEvent(body, finish.toString());
+
+		if (request.path("stream_options").path("include_usage").asBoolean(false)) {
+			ObjectNode usage = objectMapper.createObjectNode()
+				.put("id", id)
+				.put("object", "chat.completion.chunk")
+				.put("created", System.currentTimeMillis() / 1000)
+				.put("model", model);
+			usage.putArray("choices");
+			writeUsage(usage.putObject("usage"), request, reply);
+			writeEvent(body, usage.toString());
+		}
+		writeEvent(body, "[DONE]");
+	}
+
+	private ObjectNode chunk(String id, String model) {
+		ObjectNode chunk = objectMapper.createObjectNode()
+			.put("id", id)
+			.put("object", "chat.completion.chunk")
+			.put("created", System.currentTimeMillis() / 1000)
+			.put("model", model);
+		chunk.putArray("choices").addObject().put("index", 0).putNull("finish_reason");
+		return chunk;
+	}
+
+	private static void writeToolCalls(ArrayNode target, List<ToolCall> toolCalls) {
+		for (int i = 0; i < toolCalls.size(); i++) {
+			ToolCall toolCall = toolCalls.get(i);
+			ObjectNode node = target.addObject()
+				.put("index", i)
+				.put("id", toolCall.id())
+				.put("type", "function");
+			node.putObject("function")
+				.put("name", toolCall.name())
+				.put("arguments", toolCall.arguments());
+		}
+	}
+
+	// 토큰 수는 문자 수로 대략 추정한다.
+	private static void writeUsage(ObjectNode usage, JsonNode request, Reply reply) {
+		int promptTokens = Math.max(1, request.path("messages").toString().length() / 3);
+		int completionTokens = reply.toolCalls().isEmpty() ? Math.max(1, reply.content().length() / 3) : 20 * reply.toolCalls().size();
+		usage.put("prompt_tokens", promptTokens)
+			.put("completion_tokens", completionTokens)
+			.put("total_tokens", promptTokens + completionTokens);
+	}
+
+	private static String lastUserText(JsonNode messages) {
+		for (int i = messages.size() - 1; i >= 0; i--) {
+			if ("user".equals(messages.get(i).path("role").asText())) {
+				return textOf(messages.get(i));
+			}
+		}
+		return "";
+	}
+
+	private static String textOf(JsonNode message) {
+		JsonNode content = message.path("content");
+		if (content.isTextual()) {
+			return content.asText();
+		}
+		StringBuilder text = new StringBuilder();
+		for (JsonNode part : content) {
+			text.append(part.path("text").asText());
+		}
+		return text.toString();
+	}
+
+	private void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+	}
+
+	private static void writeEvent(OutputStream body, String data) throws IOException {
+		body.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+		body.flush();
+	}
+
+	private static void sleep(int millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record ToolCall(String id, String name, String arguments) {
+	}
+
+	private record Reply(String content, List<ToolCall> toolCalls) {
+	}
+}
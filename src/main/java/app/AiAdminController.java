@@ -0,0 +1,83 @@
+package app;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.global.diagnostics.ChatDiagnostics;
+import app.global.memory.ChatMemoryCompactionStats;
+import app.global.retention.AiHistoryArchiveRun;
+import app.global.retention.AiHistoryArchiver;
+import app.model.dto.response.AiHistoryArchiveRunResponse;
+import app.status.AiErrorStatus;
+import app.status.AiSuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "AI-Admin", description = "AI 요청 내역 보관 주기, 대화 진단 관리 API")
+@RequestMapping("/ai/admin")
+@PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+public class AiAdminController {
+
+	private final AiHistoryArchiver aiHistoryArchiver;
+	private final ChatDiagnostics chatDiagnostics;
+	private final ChatMemoryCompactionStats compactionStats;
+
+	@PostMapping("/history/archive")
+	@Operation(summary = "AI 요청 내역 아카이브 실행", description = "보관 기간이 지난 요청 내역을 압축 파일로 옮기는 작업을 시작하고 실행 ID를 즉시 반환합니다. 이 인스턴스나 다른 인스턴스에서 이미 실행 중이면 409를 반환합니다.")
+	public ApiResponse<AiHistoryArchiveRunResponse> startArchive() {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_ARCHIVE_STARTED,
+			AiHistoryArchiveRunResponse.from(aiHistoryArchiver.start(AiHistoryArchiveRun.Trigger.MANUAL)));
+	}
+
+	@GetMapping("/history/archive")
+	@Operation(summary = "AI 요청 내역 아카이브 실행 목록", description = "최근 아카이브 실행의 진행 상황과 결과를 최신순으로 조회합니다.")
+	public ApiResponse<List<AiHistoryArchiveRunResponse>> getArchiveRuns() {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_ARCHIVE_FOUND,
+			aiHistoryArchiver.recentRuns().stream().map(AiHistoryArchiveRunResponse::from).toList());
+	}
+
+	@GetMapping("/history/archive/{runId}")
+	@Operation(summary = "AI 요청 내역 아카이브 실행 조회", description = "실행 ID로 아카이브 진행 상황과 결과를 조회합니다.")
+	public ApiResponse<AiHistoryArchiveRunResponse> getArchiveRun(@PathVariable UUID runId) {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_ARCHIVE_FOUND, aiHistoryArchiver.findRun(runId)
+			.map(AiHistoryArchiveRunResponse::from)
+			.orElseThrow(() -> new GeneralException(AiErrorStatus.AI_ARCHIVE_RUN_NOT_FOUND)));
+	}
+
+	@GetMapping("/chat/diagnostics")
+	@Operation(summary = "추적 중인 대화 목록", description = "대화 메모리 스냅샷을 남기도록 지정된 대화 ID 목록을 조회합니다.")
+	public ApiResponse<Set<String>> getTracedConversations() {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_CHAT_DIAGNOSTICS_FOUND, chatDiagnostics.getTracedConversationIds());
+	}
+
+	@PutMapping("/chat/diagnostics/{conversationId}")
+	@Operation(summary = "대화 추적 설정", description = "대화 메모리 스냅샷 추적을 켜거나 끄고 추적 중인 대화 ID 목록을 반환합니다.")
+	public ApiResponse<Set<String>> traceConversation(@PathVariable String conversationId, @RequestParam boolean enabled) {
+		chatDiagnostics.trace(conversationId, enabled);
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_CHAT_DIAGNOSTICS_UPDATED, chatDiagnostics.getTracedConversationIds());
+	}
+
+	@GetMapping("/chat/diagnostics/{conversationId}/compaction")
+	@Operation(summary = "대화 메모리 압축 통계", description = "대화 메모리 압축 횟수와 절감한 토큰 수를 조회합니다.")
+	public ApiResponse<ChatMemoryCompactionStats.Savings> getCompaction(@PathVariable String conversationId) {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_CHAT_DIAGNOSTICS_FOUND,
+			Optional.ofNullable(compactionStats.get(conversationId))
+				.orElseThrow(() -> new GeneralException(AiErrorStatus.AI_CHAT_COMPACTION_NOT_FOUND)));
+	}
+}
@@ -6,6 +6,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import app.global.metrics.LlmMetrics;
+
 @SpringBootApplication
 public class AiApplication {
 
@@ -14,9 +16,10 @@ public class AiApplication {
 	}
 
 	@Bean
-	ChatClient chatClient(ChatModel chatModel) {
+	ChatClient chatClient(ChatModel chatModel, LlmMetrics llmMetrics) {
 		return ChatClient
 			.builder(chatModel)
+			.defaultAdvisors(llmMetrics.advisor("describe"))
 			.build();
 	}
 }
@@ -1,20 +1,36 @@
 package app;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.commonUtil.apiPayload.ApiResponse;
+import app.model.dto.request.AiBatchRequest;
 import app.model.dto.request.AiRequest;
+import app.model.dto.response.AiBatchResponse;
+import app.model.dto.response.AiHistoryPageResponse;
+import app.model.dto.response.AiJobResponse;
 import app.model.dto.response.AiResponse;
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
 import app.status.AiSuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,8 +45,64 @@ public class AiController {
 	@Operation(summary = "AI 글쓰기 도우미", description = "가게 또는 메뉴 설명을 AI를 통해 생성합니다.")
 	public ApiResponse<AiResponse> generateDescription(
 		Authentication authentication,
+		@Parameter(description = "같은 키로 다시 요청하면 새로 생성하지 않고 이전 결과를 반환합니다.")
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+		@RequestBody @Valid AiRequest aiRequest) {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_RESPONDED,
+			aiService.generateDescription(authentication, aiRequest, idempotencyKey));
+
+	}
+
+	@PostMapping("/rx/describe")
+	@Operation(summary = "AI 글쓰기 도우미 (논블로킹)", description = "POST /ai/describe 와 같은 결과를 반환하며, 생성하는 동안 요청 스레드를 점유하지 않습니다.")
+	public Mono<ApiResponse<AiResponse>> generateDescriptionReactive(
+		Authentication authentication,
+		@Parameter(description = "같은 키로 다시 요청하면 새로 생성하지 않고 이전 결과를 반환합니다.")
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+		@RequestBody @Valid AiRequest aiRequest) {
+		return aiService.generateDescriptionReactive(authentication, aiRequest, idempotencyKey)
+			.map(response -> ApiResponse.onSuccess(AiSuccessStatus.AI_RESPONDED, response));
+	}
+
+	@PostMapping("/describe/async")
+	@Operation(summary = "AI 글쓰기 도우미 (비동기)", description = "설명 생성 요청을 접수하고 요청 ID를 즉시 반환합니다. 결과는 GET /ai/describe/{requestId} 로 조회합니다.")
+	public ApiResponse<AiJobResponse> generateDescriptionAsync(
+		Authentication authentication,
+		@Parameter(description = "같은 키로 다시 요청하면 새 작업을 등록하지 않고 이전 요청 ID를 반환합니다.")
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
 		@RequestBody @Valid AiRequest aiRequest) {
-		return ApiResponse.onSuccess(AiSuccessStatus.AI_RESPONDED, aiService.generateDescription(authentication, aiRequest));
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_JOB_ACCEPTED,
+			aiService.generateDescriptionAsync(authentication, aiRequest, idempotencyKey));
+	}
+
+	@PostMapping("/describe/batch")
+	@Operation(summary = "AI 글쓰기 도우미 (일괄)", description = "여러 메뉴의 설명을 한 번에 생성합니다. 일부 항목이 실패해도 나머지 결과를 반환합니다.")
+	public ApiResponse<AiBatchResponse> generateDescriptions(
+		Authentication authentication,
+		@RequestBody @Valid AiBatchRequest aiBatchRequest) {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_RESPONDED, aiService.generateDescriptions(authentication, aiBatchRequest));
+	}
 
+	@GetMapping("/describe/{requestId}")
+	@Operation(summary = "AI 글쓰기 도우미 결과 조회", description = "요청 ID로 설명 생성 상태와 결과를 조회합니다.")
+	public ApiResponse<AiJobResponse> getDescriptionJob(
+		Authentication authentication,
+		@PathVariable UUID requestId) {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_JOB_FOUND, aiService.getDescriptionJob(authentication, requestId));
+	}
+
+	@GetMapping("/history")
+	@Operation(summary = "AI 요청 내역 조회", description = "최신순으로 AI 요청 내역을 조회합니다. 다음 페이지는 응답의 nextCursorCreatedAt, nextCursorId 를 전달해 조회합니다.")
+	public ApiResponse<AiHistoryPageResponse> getHistories(
+		Authentication authentication,
+		@RequestParam(required = false) ReqType reqType,
+		@RequestParam(required = false) AiRequestStatus status,
+		@Parameter(description = "이전 페이지 마지막 항목의 생성 시각")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+		@Parameter(description = "이전 페이지 마지막 항목의 요청 ID")
+		@RequestParam(required = false) UUID cursorId,
+		@RequestParam(defaultValue = "20") int size) {
+		return ApiResponse.onSuccess(AiSuccessStatus.AI_HISTORY_FOUND,
+			aiService.getHistories(authentication, reqType, status, cursorCreatedAt, cursorId, size));
 	}
 }
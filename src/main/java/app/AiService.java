@@ -1,87 +1,386 @@
 package app;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.commonUtil.security.TokenPrincipalParser;
+import app.global.async.AiJobExecutor;
+import app.global.async.ReactiveOffload;
+import app.global.cache.DescriptionResponseCache;
+import app.global.coalesce.RequestCoalescer;
+import app.global.jpa.TimeOrderedUuidGenerator;
+import app.global.metrics.LlmMetrics;
+import app.global.outbox.AiHistoryOutbox;
+import app.global.prompt.BatchDescriptionPrompt;
+import app.global.prompt.DescriptionPrompt;
+import app.global.prompt.DescriptionPromptRegistry;
+import app.global.ratelimit.AiRateLimiter;
+import app.global.resilience.LlmCallExecutor;
+import app.global.routing.ModelRouter;
 import app.model.AiHistoryRepository;
+import app.model.dto.request.AiBatchRequest;
 import app.model.dto.request.AiRequest;
+import app.model.dto.response.AiBatchItemResponse;
+import app.model.dto.response.AiBatchResponse;
+import app.model.dto.response.AiHistoryPageResponse;
+import app.model.dto.response.AiHistoryResponse;
+import app.model.dto.response.AiJobResponse;
 import app.model.dto.response.AiResponse;
+import app.model.dto.response.BatchGeneratedItem;
 import app.model.entity.AiHistory;
 import app.model.entity.enums.AiRequestStatus;
 import app.model.entity.enums.ReqType;
 import app.status.AiErrorStatus;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @lombok.extern.slf4j.Slf4j
 public class AiService{
 
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;
+	private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
 	private final AiHistoryRepository aiHistoryRepository;
+	private final AiHistoryOutbox aiHistoryOutbox;
 	private final ChatClient chatClient;
 	private final TokenPrincipalParser tokenPrincipalParser;
+	private final AiJobExecutor aiJobExecutor;
+	private final DescriptionResponseCache descriptionResponseCache;
+	private final DescriptionPromptRegistry descriptionPromptRegistry;
+	private final LlmCallExecutor llmCallExecutor;
+	private final ModelRouter modelRouter;
+	private final LlmMetrics llmMetrics;
+	private final RequestCoalescer requestCoalescer;
+	private final ReactiveOffload reactiveOffload;
+	private final AiRateLimiter aiRateLimiter;
+
+	public AiResponse generateDescription(Authentication authentication, AiRequest aiRequest, String idempotencyKey) {
+		AiHistory aiRequestEntity = createPendingHistory(authentication, aiRequest);
+		String prompt = renderPrompt(aiRequestEntity);
+
+		// 같은 사용자의 같은 프롬프트(또는 같은 Idempotency-Key) 요청이 진행 중이면 새로 생성하지 않고 그 결과를 함께 받는다.
+		return requestCoalescer.execute(coalescingKey("sync", aiRequestEntity, prompt, aiRequest.isBypassCache(), idempotencyKey),
+			requestFingerprint(aiRequest, prompt, idempotencyKey), idempotencyKey != null,
+			() -> {
+				// PENDING 과 결과 기록은 AiHistoryOutbox 가 요청 경로 밖에서 DB 에 배치로 반영한다.
+				AiHistory savedAiRequestEntity = aiHistoryOutbox.save(aiRequestEntity);
+				String generatedContent = generate(savedAiRequestEntity, prompt, aiRequest.isBypassCache(), "sync");
+				return new AiResponse(savedAiRequestEntity.getAiRequestId().toString(), generatedContent,
+					savedAiRequestEntity.isFallback());
+			});
+	}
+
+	// 생성 과정(캐시, 합류, 재시도/hedge, 모델 라우팅)은 동기 API 와 같고, 요청 스레드 대신 제한된 offload 스레드에서 실행한다.
+	public Mono<AiResponse> generateDescriptionReactive(Authentication authentication, AiRequest aiRequest, String idempotencyKey) {
+		return reactiveOffload.call(() -> generateDescription(authentication, aiRequest, idempotencyKey));
+	}
+
+	public AiJobResponse generateDescriptionAsync(Authentication authentication, AiRequest aiRequest, String idempotencyKey) {
+		AiHistory aiRequestEntity = createPendingHistory(authentication, aiRequest);
+		String prompt = renderPrompt(aiRequestEntity);
+		if (idempotencyKey == null) {
+			return submitDescriptionJob(aiRequestEntity, prompt, aiRequest);
+		}
+		return requestCoalescer.execute(coalescingKey("async", aiRequestEntity, prompt, aiRequest.isBypassCache(), idempotencyKey),
+			requestFingerprint(aiRequest, prompt, idempotencyKey), true,
+			() -> submitDescriptionJob(aiRequestEntity, prompt, aiRequest));
+	}
+
+	public AiBatchResponse generateDescriptions(Authentication authentication, AiBatchRequest aiBatchRequest) {
+		List<AiRequest> items = aiBatchRequest.getItems();
+		if (items == null || items.isEmpty()) {
+			throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
+		}
+		// 일괄 요청 하나가 청크마다 OpenAI 를 호출하므로 인터셉터 대신 여기서 청크 수만큼 요청 한도를 차감한다.
+		BatchDescriptionPrompt batchPrompt = descriptionPromptRegistry.getBatch();
+		String userId = tokenPrincipalParser.getUserId(authentication);
+		if (userId != null) {
+			aiRateLimiter.acquire(userId, (items.size() + batchPrompt.getChunkSize() - 1) / batchPrompt.getChunkSize());
+		}
+		AiHistory[] histories = new AiHistory[items.size()];
+		String[] cacheKeys = new String[items.size()];
+		List<Integer> uncachedIndexes = new ArrayList<>();
+
+		for (int index = 0; index < items.size(); index++) {
+			AiRequest item = items.get(index);
+			if (item == null) {
+				continue;
+			}
+			try {
+				histories[index] = createPendingHistory(authentication, item);
+			} catch (GeneralException e) {
+				continue;
+			}
+			cacheKeys[index] = DescriptionResponseCache.keyOf(modelRouter.primaryModel(item.getReqType()),
+				renderPrompt(histories[index]));
+			Optional<String> cachedContent = item.isBypassCache() ? Optional.empty() : descriptionResponseCache.get(cacheKeys[index]);
+			if (cachedContent.isPresent()) {
+				histories[index].updateCachedContent(cachedContent.get());
+			} else {
+				uncachedIndexes.add(index);
+			}
+		}
 
-	public AiResponse generateDescription(Authentication authentication, AiRequest aiRequest) {
+		for (int from = 0; from < uncachedIndexes.size(); from += batchPrompt.getChunkSize()) {
+			List<Integer> chunk = uncachedIndexes.subList(from, Math.min(from + batchPrompt.getChunkSize(), uncachedIndexes.size()));
+			generateChunk(batchPrompt, chunk, histories, cacheKeys);
+		}
+
+		List<AiHistory> validHistories = new ArrayList<>();
+		for (AiHistory history : histories) {
+			if (history != null) {
+				validHistories.add(history);
+			}
+		}
+		aiHistoryOutbox.saveAll(validHistories);
+
+		List<AiBatchItemResponse> results = new ArrayList<>(items.size());
+		int successCount = 0;
+		for (int index = 0; index < histories.length; index++) {
+			AiHistory history = histories[index];
+			if (history == null) {
+				results.add(new AiBatchItemResponse(index, null, AiRequestStatus.FAILED, null, false));
+				continue;
+			}
+			llmMetrics.recordDescription("batch", history.getReqType(), history.getStatus(), history.isCached());
+			boolean succeeded = history.getStatus() == AiRequestStatus.SUCCESS;
+			if (succeeded) {
+				successCount++;
+			}
+			results.add(new AiBatchItemResponse(index, history.getAiRequestId().toString(), history.getStatus(),
+				succeeded ? history.getGeneratedContent() : null, history.isFallback()));
+		}
+		return new AiBatchResponse(successCount, items.size() - successCount, results);
+	}
+
+	public AiJobResponse getDescriptionJob(Authentication authentication, UUID requestId) {
+		Long userId = Long.parseLong(tokenPrincipalParser.getUserId(authentication));
+		AiHistory aiHistory = aiHistoryOutbox.find(requestId)
+			.or(() -> aiHistoryRepository.findById(requestId))
+			.filter(history -> history.getUserId().equals(userId))
+			.orElseThrow(() -> new GeneralException(AiErrorStatus.AI_HISTORY_NOT_FOUND));
+
+		String generatedContent = aiHistory.getStatus() == AiRequestStatus.SUCCESS ? aiHistory.getGeneratedContent() : null;
+		return new AiJobResponse(aiHistory.getAiRequestId().toString(), aiHistory.getStatus(), generatedContent,
+			aiHistory.isFallback());
+	}
+
+	public AiHistoryPageResponse getHistories(Authentication authentication, ReqType reqType, AiRequestStatus status,
+		LocalDateTime cursorCreatedAt, UUID cursorId, int size) {
+		if ((cursorCreatedAt == null) != (cursorId == null) || size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+			throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
+		}
+		Long userId = Long.parseLong(tokenPrincipalParser.getUserId(authentication));
+
+		List<AiHistoryResponse> histories = aiHistoryRepository.findHistories(
+			userId, reqType, status, cursorCreatedAt, cursorId, size + 1);
+		boolean hasNext = histories.size() > size;
+		if (!hasNext) {
+			return new AiHistoryPageResponse(histories, false, null, null);
+		}
+		List<AiHistoryResponse> content = histories.subList(0, size);
+		AiHistoryResponse last = content.get(size - 1);
+		return new AiHistoryPageResponse(content, true, last.getCreatedAt(), last.getRequestId());
+	}
+
+	private AiHistory createPendingHistory(Authentication authentication, AiRequest aiRequest) {
 		String userIdStr = tokenPrincipalParser.getUserId(authentication);
 		Long userId = Long.parseLong(userIdStr);
-		if (StringUtils.hasText(aiRequest.getStoreName())) {
-			if (aiRequest.getReqType() == ReqType.MENU_DESCRIPTION && !StringUtils.hasText(aiRequest.getMenuName())) {
+		// 일괄 요청의 항목은 Bean Validation 을 거치지 않으므로 여기서 항목별로 검증한다.
+		if (aiRequest.getReqType() == null || !StringUtils.hasText(aiRequest.getPromptText())) {
+			throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
+		}
+		if (!StringUtils.hasText(aiRequest.getStoreName())) {
+			throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
+		}
+		if (aiRequest.getReqType() == ReqType.MENU_DESCRIPTION && !StringUtils.hasText(aiRequest.getMenuName())) {
+			throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
+		}
+
+		// DB 기록이 뒤로 미뤄지므로 요청 ID 를 미리 발급해 응답과 이후 조회에 사용한다.
+		return AiHistory.builder()
+			.aiRequestId(TimeOrderedUuidGenerator.next())
+			.userId(userId)
+			.storeName(aiRequest.getStoreName())
+			.menuName(StringUtils.hasText(aiRequest.getMenuName()) ? aiRequest.getMenuName() : "")
+			.reqType(aiRequest.getReqType())
+			.promptText(aiRequest.getPromptText())
+			.status(AiRequestStatus.PENDING)
+			.build();
+	}
+
+	private AiJobResponse submitDescriptionJob(AiHistory aiRequestEntity, String prompt, AiRequest aiRequest) {
+		AiHistory savedAiRequestEntity = aiHistoryOutbox.save(aiRequestEntity);
+		try {
+			aiJobExecutor.execute(() -> {
+				try {
+					generate(savedAiRequestEntity, prompt, aiRequest.isBypassCache(), "async");
+				} catch (GeneralException e) {
+					log.warn("Async generation failed. requestId={}", savedAiRequestEntity.getAiRequestId());
+				}
+			});
+		} catch (TaskRejectedException e) {
+			savedAiRequestEntity.updateGeneratedContent("Error: job queue is full", AiRequestStatus.FAILED);
+			aiHistoryOutbox.save(savedAiRequestEntity);
+			llmMetrics.recordDescription("async", aiRequest.getReqType(), AiRequestStatus.FAILED, false);
+			throw new GeneralException(AiErrorStatus.AI_JOB_QUEUE_FULL);
+		}
+
+		return new AiJobResponse(savedAiRequestEntity.getAiRequestId().toString(), AiRequestStatus.PENDING, null, false);
+	}
+
+	// Idempotency-Key 가 있으면 사용자와 키로, 없으면 사용자와 정규화한 프롬프트로 동일 요청을 판단한다.
+	// 캐시를 건너뛰라는 요청은 캐시를 쓰는 요청의 결과를 받지 않도록 따로 합류한다.
+	private String coalescingKey(String mode, AiHistory aiRequestEntity, String prompt, boolean bypassCache,
+		String idempotencyKey) {
+		if (idempotencyKey != null) {
+			if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
 				throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
 			}
+			return mode + ":" + aiRequestEntity.getUserId() + ":key:" + idempotencyKey;
+		}
+		return mode + ":" + aiRequestEntity.getUserId() + (bypassCache ? ":bypass:" : ":")
+			+ DescriptionResponseCache.keyOf(modelRouter.primaryModel(aiRequestEntity.getReqType()), prompt);
+	}
 
-			AiHistory aiRequestEntity = AiHistory.builder()
-				.userId(userId)
-				.storeName(aiRequest.getStoreName())
-				.menuName(StringUtils.hasText(aiRequest.getMenuName()) ? aiRequest.getMenuName() : "")
-				.reqType(aiRequest.getReqType())
-				.promptText(aiRequest.getPromptText())
-				.status(AiRequestStatus.PENDING)
-				.build();
-
-			AiHistory savedAiRequestEntity = aiHistoryRepository.save(aiRequestEntity);
-			PromptTemplate promptTemplate = new PromptTemplate("""
-				너는 사용자의 요청에 맞춰 배달앱에 적합한 마케팅 문구를 생성하는 AI야. 아래 주어진 정보를 바탕으로 멋진 결과물을 만들어줘.
-				
-				- 가게 이름: {storeName}
-				- 메뉴 이름: {menuName}
-				- 요청 종류: {reqType}
-				- 핵심 요청사항 : {promptText}
-				
-				요청 종류가 MENU_DESCRIPTION 이면 30자 이내로 작성해주고 STORE_DESCRIPTION 이면 100자 이내로 작성해줘.
-				""");
-			Prompt prompt = promptTemplate.create(Map.of(
-				"storeName", aiRequestEntity.getStoreName(), "menuName", aiRequestEntity.getMenuName()
-				, "reqType", aiRequestEntity.getReqType(), "promptText", aiRequestEntity.getPromptText())
-			);
-			String generatedContent;
-			try {
-				log.info("Request to OpenAI: {}", prompt.getContents());
+	// Idempotency-Key 키는 요청 내용을 담지 않으므로, 같은 키로 내용이 다른 요청을 재생하지 않도록 요청 해시를 함께 비교한다.
+	// 프롬프트 키는 프롬프트 해시를 이미 포함하므로 비교하지 않는다.
+	private String requestFingerprint(AiRequest aiRequest, String prompt, String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return null;
+		}
+		return DescriptionResponseCache.keyOf(aiRequest.getReqType().name(), prompt) + ":" + aiRequest.isBypassCache();
+	}
+
+	private String renderPrompt(AiHistory aiRequestEntity) {
+		DescriptionPrompt descriptionPrompt = descriptionPromptRegistry.get(aiRequestEntity.getReqType());
+		return descriptionPrompt.render(promptVariables(aiRequestEntity, descriptionPrompt.getMaxLength()));
+	}
 
-				generatedContent = chatClient.prompt()
-					.options(OpenAiChatOptions.builder().model("gpt-4.1-mini").build())
-					.user(prompt.getContents())
+	// OpenAI 를 사용할 수 없을 때 요청 종류별 로컬 템플릿으로 결정적인 문구를 만든다.
+	private String renderFallback(AiHistory aiRequestEntity) {
+		DescriptionPrompt fallbackPrompt = descriptionPromptRegistry.getFallback(aiRequestEntity.getReqType());
+		String content = fallbackPrompt.render(promptVariables(aiRequestEntity, fallbackPrompt.getMaxLength()));
+		return content.length() > fallbackPrompt.getMaxLength() ? content.substring(0, fallbackPrompt.getMaxLength()) : content;
+	}
+
+	private Map<String, Object> promptVariables(AiHistory aiRequestEntity, int maxLength) {
+		return Map.of(
+			"storeName", aiRequestEntity.getStoreName(), "menuName", aiRequestEntity.getMenuName()
+			, "reqType", aiRequestEntity.getReqType(), "promptText", aiRequestEntity.getPromptText()
+			, "maxLength", maxLength);
+	}
+
+	private void generateChunk(BatchDescriptionPrompt batchPrompt, List<Integer> chunk, AiHistory[] histories, String[] cacheKeys) {
+		StringBuilder itemsText = new StringBuilder();
+		for (int index : chunk) {
+			AiHistory history = histories[index];
+			DescriptionPrompt descriptionPrompt = descriptionPromptRegistry.get(history.getReqType());
+			itemsText.append(batchPrompt.getItemTemplate().render(Map.of(
+				"index", index, "storeName", history.getStoreName(), "menuName", history.getMenuName()
+				, "reqType", history.getReqType(), "promptText", history.getPromptText()
+				, "maxLength", descriptionPrompt.getMaxLength())));
+		}
+
+		Map<Integer, String> contents;
+		boolean fallback = false;
+		String errorMessage = "Error: missing item in batch response";
+		try {
+			ModelRouter.Result<List<BatchGeneratedItem>> generated = modelRouter.call(null,
+				model -> llmCallExecutor.execute(() -> chatClient.prompt()
+					.options(OpenAiChatOptions.builder().model(model).build())
+					.user(batchPrompt.getTemplate().render(Map.of("items", itemsText)))
 					.call()
-					.content();
-				savedAiRequestEntity.updateGeneratedContent(generatedContent, AiRequestStatus.SUCCESS);
-			} catch (Exception e) {
-				savedAiRequestEntity.updateGeneratedContent("Error: " + e.getMessage(), AiRequestStatus.FAILED);
-				throw new GeneralException(AiErrorStatus.AI_GENERATION_FAILED);
+					.entity(new ParameterizedTypeReference<List<BatchGeneratedItem>>() {
+					})),
+				() -> chunk.stream().map(index -> new BatchGeneratedItem(index, renderFallback(histories[index]))).toList());
+			fallback = generated.isFallback();
+			List<BatchGeneratedItem> generatedItems = generated.result();
+			contents = generatedItems == null ? Map.of() : generatedItems.stream()
+				.filter(item -> StringUtils.hasText(item.getContent()))
+				.collect(Collectors.toMap(BatchGeneratedItem::getIndex, BatchGeneratedItem::getContent, (first, second) -> first));
+		} catch (Exception e) {
+			log.warn("Batch generation failed for {} items", chunk.size(), e);
+			contents = Map.of();
+			errorMessage = "Error: " + e.getMessage();
+		}
+
+		for (int index : chunk) {
+			String generatedContent = contents.get(index);
+			if (generatedContent != null && fallback) {
+				histories[index].updateFallbackContent(generatedContent);
+			} else if (generatedContent != null) {
+				histories[index].updateGeneratedContent(generatedContent, AiRequestStatus.SUCCESS);
+				descriptionResponseCache.put(cacheKeys[index], generatedContent);
+			} else {
+				histories[index].updateGeneratedContent(errorMessage, AiRequestStatus.FAILED);
 			}
+		}
+	}
 
-			return new AiResponse(savedAiRequestEntity.getAiRequestId().toString(), generatedContent);
+	private String generate(AiHistory savedAiRequestEntity, String prompt, boolean bypassCache, String mode) {
+		// 부하에 따라 다른 모델로 응답하더라도 같은 요청은 같은 캐시 키를 쓰도록 기본 모델로 키를 만든다.
+		ReqType reqType = savedAiRequestEntity.getReqType();
+		String cacheKey = DescriptionResponseCache.keyOf(modelRouter.primaryModel(reqType), prompt);
+		if (!bypassCache) {
+			Optional<String> cachedContent = descriptionResponseCache.get(cacheKey);
+			if (cachedContent.isPresent()) {
+				savedAiRequestEntity.updateCachedContent(cachedContent.get());
+				aiHistoryOutbox.save(savedAiRequestEntity);
+				llmMetrics.recordDescription(mode, reqType, AiRequestStatus.SUCCESS, true);
+				return cachedContent.get();
+			}
+		}
+
+		ModelRouter.Result<String> generated;
+		try {
+			log.info("Request to OpenAI: {}", prompt);
+
+			generated = modelRouter.call(reqType,
+				model -> llmCallExecutor.execute(reqType, () -> chatClient.prompt()
+					.options(OpenAiChatOptions.builder().model(model).build())
+					.user(prompt)
+					.call()
+					.content()),
+				() -> renderFallback(savedAiRequestEntity));
+		} catch (Exception e) {
+			savedAiRequestEntity.updateGeneratedContent("Error: " + e.getMessage(), AiRequestStatus.FAILED);
+			aiHistoryOutbox.save(savedAiRequestEntity);
+			llmMetrics.recordDescription(mode, reqType, AiRequestStatus.FAILED, false);
+			// 동시 호출 제한, 서킷 open, 시간 초과 등 이미 상태가 정해진 예외는 그대로 전달한다.
+			if (e instanceof GeneralException generalException) {
+				throw generalException;
+			}
+			throw new GeneralException(AiErrorStatus.AI_GENERATION_FAILED);
+		}
+		String generatedContent = generated.result();
+		// 로컬 템플릿 응답은 캐시하지 않아 OpenAI 가 복구되면 다시 생성하고, 기록과 응답에 대체 결과임을 남긴다.
+		if (generated.isFallback()) {
+			savedAiRequestEntity.updateFallbackContent(generatedContent);
 		} else {
-			throw new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE);
+			if (generatedContent != null) {
+				descriptionResponseCache.put(cacheKey, generatedContent);
+			}
+			savedAiRequestEntity.updateGeneratedContent(generatedContent, AiRequestStatus.SUCCESS);
 		}
+		aiHistoryOutbox.save(savedAiRequestEntity);
+		llmMetrics.recordDescription(mode, reqType, AiRequestStatus.SUCCESS, false);
+		return generatedContent;
 	}
-}
\ No newline at end of file
+}
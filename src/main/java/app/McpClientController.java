@@ -1,16 +1,19 @@
 package app;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.ChatMemoryRepository;
-import org.springframework.ai.chat.memory.MessageWindowChatMemory;
-import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.model.MessageAggregator;
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,11 +22,22 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import app.commonUtil.apiPayload.ApiResponse;
+import app.commonUtil.apiPayload.code.BaseCode;
+import app.commonUtil.apiPayload.code.status.ErrorStatus;
+import app.commonUtil.apiPayload.exception.GeneralException;
 import app.commonUtil.security.TokenPrincipalParser;
+import app.global.diagnostics.ChatDiagnostics;
+import app.global.metrics.LlmMetrics;
+import app.global.tool.ParallelToolCallingManager;
+import app.global.tool.ProgressReportingToolCallback;
 import app.model.dto.response.ChatResponse;
 import app.status.AiSuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 @RestController
 @Tag(name = "MCP-Client", description = "사용자는 텍스트로 가게조회, 장바구니 담기, 주문을 할 수 있습니다.")
@@ -33,24 +47,30 @@ public class McpClientController {
     private static final Logger log = LoggerFactory.getLogger(McpClientController.class);
 
     private final ChatClient chatClient;
+    private final ChatClient streamingChatClient;
+    private final ToolCallback[] toolCallbacks;
     private final TokenPrincipalParser tokenPrincipalParser;
     private final ChatMemory chatMemory;
+    private final ChatDiagnostics chatDiagnostics;
 
-    public McpClientController(ChatClient.Builder chatClientBuilder, ToolCallbackProvider tools, ChatMemoryRepository chatMemoryRepository,
-        TokenPrincipalParser tokenPrincipalParser) {
+    public McpClientController(ChatClient.Builder chatClientBuilder, ToolCallbackProvider tools, ChatMemory chatMemory,
+        TokenPrincipalParser tokenPrincipalParser, ChatDiagnostics chatDiagnostics, LlmMetrics llmMetrics) {
 
-        this.chatMemory = MessageWindowChatMemory.builder()
-            .chatMemoryRepository(chatMemoryRepository)
-            .maxMessages(10)
-            .build();
+        this.chatMemory = chatMemory;
 
-        this.chatClient = chatClientBuilder
+        ChatClient.Builder baseBuilder = chatClientBuilder
             .defaultSystem("You are a helpful AI assistant that can use tools to search for "
                 + "stores, menus, add items to a cart, and create orders. Always show storeKey in bottom")
-            .defaultToolCallbacks(tools)
-            .defaultAdvisors(MessageChatMemoryAdvisor.builder(this.chatMemory).build())
+            .defaultAdvisors(MessageChatMemoryAdvisor.builder(this.chatMemory).build(), llmMetrics.advisor("chat"));
+
+        // 스트리밍 응답은 도구 호출 진행 상황을 이벤트로 내보내기 위해 요청마다 감싼 콜백을 전달한다.
+        this.toolCallbacks = tools.getToolCallbacks();
+        this.streamingChatClient = baseBuilder.clone().build();
+        this.chatClient = baseBuilder
+            .defaultToolCallbacks(this.toolCallbacks)
             .build();
         this.tokenPrincipalParser = tokenPrincipalParser;
+        this.chatDiagnostics = chatDiagnostics;
     }
 
     @GetMapping("/chat")
@@ -61,21 +81,96 @@ public class McpClientController {
 
         String userId = tokenPrincipalParser.getUserId(authentication).toString();
 
-        List<Message> currentMessages = chatMemory.get(userId);
-        log.info("--- Current Chat Memory for Conversation ID: {} ---", userId);
-        if (currentMessages.isEmpty()) {
-            log.info("No messages in memory.");
-        } else {
-            currentMessages.forEach(msg -> log.info("  - Type: {}, Content: '{}'", msg.getMessageType(), msg.getText()));
-        }
-        log.info("-------------------------------------------------------");
-
-        String response = chatClient.prompt()
+        org.springframework.ai.chat.model.ChatResponse chatResponse = chatClient.prompt()
             .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, userId))
             .user(message + "   userId = " + userId)
+            .toolContext(Map.of(ParallelToolCallingManager.CONVERSATION_ID, userId))
             .call()
-            .content();
+            .chatResponse();
+        chatDiagnostics.recordTurn(userId, chatResponse);
+
+        String response = chatResponse != null && chatResponse.getResult() != null
+            ? chatResponse.getResult().getOutput().getText() : null;
 
         return ApiResponse.onSuccess(AiSuccessStatus.MCP_CLIENT_SUCCESS, ChatResponse.builder().answer(response).build());
     }
-}
\ No newline at end of file
+
+    // OpenAI 호출을 WebClient 스트림으로 받아 한 응답으로 합친다. 요청 스레드는 응답이 올 때까지 점유되지 않는다.
+    @GetMapping("/rx/chat")
+    @Operation(summary = "MCP 채팅 (논블로킹)", description = "GET /ai/chat 과 같은 응답을 반환하며, 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.")
+    public Mono<ApiResponse<ChatResponse>> chatReactive(
+        Authentication authentication,
+        @Parameter(description = "사용자를 식별하기 위한 유저 ID", required = true)
+        @RequestParam String message) {
+
+        String userId = tokenPrincipalParser.getUserId(authentication).toString();
+
+        Flux<org.springframework.ai.chat.model.ChatResponse> responses = streamingChatClient.prompt()
+            .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, userId))
+            .user(message + "   userId = " + userId)
+            .toolCallbacks(toolCallbacks)
+            .toolContext(Map.of(ParallelToolCallingManager.CONVERSATION_ID, userId))
+            .stream()
+            .chatResponse();
+
+        return new MessageAggregator().aggregate(responses, response -> chatDiagnostics.recordTurn(userId, response))
+            .mapNotNull(response -> response.getResult() != null ? response.getResult().getOutput().getText() : null)
+            .collect(Collectors.joining())
+            .map(answer -> ApiResponse.onSuccess(AiSuccessStatus.MCP_CLIENT_SUCCESS,
+                ChatResponse.builder().answer(answer.isEmpty() ? null : answer).build()));
+    }
+
+    @GetMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "MCP 채팅 스트리밍", description = "응답 토큰(token), 도구 호출 진행(tool), 완료(done) 또는 실패(error) 이벤트를 SSE로 전송합니다.")
+    public Flux<ServerSentEvent<Object>> chatStream(
+        Authentication authentication,
+        @Parameter(description = "사용자를 식별하기 위한 유저 ID", required = true)
+        @RequestParam String message) {
+
+        String userId = tokenPrincipalParser.getUserId(authentication).toString();
+
+        Sinks.Many<ServerSentEvent<Object>> toolEvents = Sinks.many().unicast().onBackpressureBuffer();
+        ToolCallback[] reportingToolCallbacks = Arrays.stream(toolCallbacks)
+            .map(callback -> new ProgressReportingToolCallback(callback,
+                event -> emitToolEvent(toolEvents, ServerSentEvent.<Object>builder(event).event("tool").build())))
+            .toArray(ToolCallback[]::new);
+
+        Flux<ServerSentEvent<Object>> answer = streamingChatClient.prompt()
+            .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, userId))
+            .user(message + "   userId = " + userId)
+            .toolCallbacks(reportingToolCallbacks)
+            .toolContext(Map.of(ParallelToolCallingManager.CONVERSATION_ID, userId))
+            .stream()
+            .content()
+            .map(token -> ServerSentEvent.<Object>builder(token).event("token").build())
+            .concatWith(Mono.fromSupplier(() -> ServerSentEvent.<Object>builder(
+                ApiResponse.onSuccess(AiSuccessStatus.MCP_CLIENT_SUCCESS, null)).event("done").build()))
+            .onErrorResume(e -> {
+                log.warn("Chat stream failed. conversationId={}", userId, e);
+                BaseCode code = e instanceof GeneralException ge ? ge.getCode() : ErrorStatus._INTERNAL_SERVER_ERROR;
+                return Mono.just(ServerSentEvent.<Object>builder(ApiResponse.onFailure(code, null)).event("error").build());
+            })
+            .doFinally(signal -> completeToolEvents(toolEvents));
+
+        return Flux.merge(toolEvents.asFlux(), answer);
+    }
+
+    // 읽기 전용 도구는 ai-tool-* 스레드에서 동시에 실행되므로 sink 호출을 직렬화한다.
+    // 직렬화하지 않으면 동시에 들어온 이벤트는 FAIL_NON_SERIALIZED 로 조용히 버려진다.
+    private static void emitToolEvent(Sinks.Many<ServerSentEvent<Object>> toolEvents, ServerSentEvent<Object> event) {
+        Sinks.EmitResult result;
+        synchronized (toolEvents) {
+            result = toolEvents.tryEmitNext(event);
+        }
+        // 클라이언트가 연결을 끊었거나 스트림이 이미 끝난 뒤의 이벤트만 버려진다.
+        if (result.isFailure()) {
+            log.debug("Dropped tool event. result={}", result);
+        }
+    }
+
+    private static void completeToolEvents(Sinks.Many<ServerSentEvent<Object>> toolEvents) {
+        synchronized (toolEvents) {
+            toolEvents.tryEmitComplete();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package app.global.async;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+// 대기열(queue-capacity)이 가득 차면 TaskRejectedException 으로 거절해 요청 측에 backpressure 를 전달한다.
+@Component
+public class AiJobExecutor implements DisposableBean {
+
+	private final ThreadPoolTaskExecutor executor;
+
+	public AiJobExecutor(
+		@Value("${ai.describe.async.pool-size:4}") int poolSize,
+		@Value("${ai.describe.async.queue-capacity:100}") int queueCapacity,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(poolSize);
+		this.executor.setMaxPoolSize(poolSize);
+		this.executor.setQueueCapacity(queueCapacity);
+		this.executor.setThreadNamePrefix("ai-job-");
+		this.executor.setVirtualThreads(virtualThreads);
+		this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		this.executor.setWaitForTasksToCompleteOnShutdown(true);
+		this.executor.setAwaitTerminationSeconds(30);
+		this.executor.initialize();
+	}
+
+	public void execute(Runnable task) throws TaskRejectedException {
+		executor.execute(task);
+	}
+
+	public int getQueueSize() {
+		return executor.getQueueSize();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
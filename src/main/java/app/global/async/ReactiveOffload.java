@@ -0,0 +1,65 @@
+package app.global.async;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// /ai/rx 엔드포인트에서 블로킹 작업(OpenAI 동기 호출, 재시도/hedge, 기록 대기열)을 요청 스레드 밖에서 실행한다.
+// thread-cap 개 스레드가 모두 바쁘면 queue-capacity 까지 대기하고, 그 이상은 AI_JOB_QUEUE_FULL 로 바로 거절한다.
+// 대기열에서 queue-timeout 안에 시작하지 못한 작업도 실행하지 않고 AI_JOB_QUEUE_FULL 로 끝내,
+// 대기 시간 + 작업 마감 시간이 spring.mvc.async.request-timeout 을 넘지 않게 한다.
+@Component
+public class ReactiveOffload implements DisposableBean {
+
+	private final Scheduler scheduler;
+	private final Duration queueTimeout;
+	private final Counter rejections;
+	private final Counter queueTimeouts;
+
+	public ReactiveOffload(MeterRegistry meterRegistry,
+		@Value("${ai.rx.offload.thread-cap:64}") int threadCap,
+		@Value("${ai.rx.offload.queue-capacity:1000}") int queueCapacity,
+		@Value("${ai.rx.offload.queue-timeout:PT10S}") Duration queueTimeout) {
+		this.scheduler = Schedulers.newBoundedElastic(threadCap, queueCapacity, "ai-rx-offload", 60, true);
+		this.queueTimeout = queueTimeout;
+		this.rejections = Counter.builder("ai.rx.offload.rejected")
+			.register(meterRegistry);
+		this.queueTimeouts = Counter.builder("ai.rx.offload.queue_timeout")
+			.register(meterRegistry);
+	}
+
+	// 작업 시작과 대기 시간 초과 중 먼저 claimed 를 차지한 쪽만 진행한다. 이미 시작한 작업은 끊지 않는다.
+	public <T> Mono<T> call(Callable<T> task) {
+		AtomicBoolean claimed = new AtomicBoolean();
+		Mono<Long> queueExpired = Mono.delay(queueTimeout)
+			.flatMap(tick -> claimed.compareAndSet(false, true) ? Mono.just(tick) : Mono.never());
+		return Mono.fromCallable(() -> claimed.compareAndSet(false, true) ? task.call() : null)
+			.subscribeOn(scheduler)
+			.timeout(queueExpired, Mono.defer(() -> {
+				queueTimeouts.increment();
+				return Mono.error(new GeneralException(AiErrorStatus.AI_JOB_QUEUE_FULL));
+			}))
+			.onErrorMap(RejectedExecutionException.class, e -> {
+				rejections.increment();
+				return new GeneralException(AiErrorStatus.AI_JOB_QUEUE_FULL);
+			});
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.dispose();
+	}
+}
@@ -0,0 +1,58 @@
+package app.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class DescriptionResponseCache {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final Cache<String, String> cache;
+
+	public DescriptionResponseCache(
+		@Value("${ai.describe.cache.max-size:10000}") long maxSize,
+		@Value("${ai.describe.cache.ttl:6h}") Duration ttl,
+		MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.describe.response");
+	}
+
+	public Optional<String> get(String key) {
+		return Optional.ofNullable(cache.getIfPresent(key));
+	}
+
+	public void put(String key, String generatedContent) {
+		cache.put(key, generatedContent);
+	}
+
+	public static String keyOf(String model, String renderedPrompt) {
+		String normalized = WHITESPACE.matcher(renderedPrompt.strip()).replaceAll(" ");
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(model.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package app.global.coalesce;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 같은 키로 동시에 들어온 요청을 하나의 실행(single-flight)에 합류시켜 결과를 공유한다.
+// 먼저 들어온 요청(leader)이 호출 스레드에서 직접 실행하고, 뒤따른 요청은 join-timeout 까지만 기다린다.
+// retain 으로 실행한 결과는 idempotency-ttl 동안 보관해 같은 Idempotency-Key 재시도에 그대로 돌려준다.
+// fingerprint(요청 내용의 해시)를 함께 보관해, 같은 키로 내용이 다른 요청이 오면 합류하거나 재생하지 않고 거절한다.
+@Component
+public class RequestCoalescer {
+
+	private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+	private final Cache<String, Retained> completed;
+	private final Duration joinTimeout;
+	private final Counter executed;
+	private final Counter joined;
+	private final Counter replayed;
+	private final Counter timedOut;
+	private final Counter mismatched;
+
+	public RequestCoalescer(
+		@Value("${ai.describe.single-flight.join-timeout:PT25S}") Duration joinTimeout,
+		@Value("${ai.describe.single-flight.idempotency-ttl:PT10M}") Duration idempotencyTtl,
+		@Value("${ai.describe.single-flight.max-idempotency-keys:100000}") long maxIdempotencyKeys,
+		MeterRegistry meterRegistry) {
+		this.joinTimeout = joinTimeout;
+		this.completed = Caffeine.newBuilder()
+			.maximumSize(maxIdempotencyKeys)
+			.expireAfterWrite(idempotencyTtl)
+			.build();
+		this.executed = counter(meterRegistry, "executed");
+		this.joined = counter(meterRegistry, "joined");
+		this.replayed = counter(meterRegistry, "replayed");
+		this.timedOut = counter(meterRegistry, "timeout");
+		this.mismatched = counter(meterRegistry, "mismatch");
+		Gauge.builder("ai.describe.coalesced.inflight", inFlight, ConcurrentHashMap::size)
+			.register(meterRegistry);
+	}
+
+	public <T> T execute(String key, boolean retain, Supplier<T> task) {
+		return execute(key, null, retain, task);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, String fingerprint, boolean retain, Supplier<T> task) {
+		Flight flight = new Flight(fingerprint, new CompletableFuture<>());
+		Flight existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			requireSameRequest(existing.fingerprint(), fingerprint);
+			joined.increment();
+			return (T)await(existing.result());
+		}
+
+		try {
+			// leader 가 된 뒤에 확인해야 결과 보관과 in-flight 제거 사이에 들어온 재시도도 놓치지 않는다.
+			Retained previous = retain ? completed.getIfPresent(key) : null;
+			if (previous != null) {
+				requireSameRequest(previous.fingerprint(), fingerprint);
+				replayed.increment();
+				flight.result().complete(previous.result());
+				return (T)previous.result();
+			}
+			executed.increment();
+			T result = task.get();
+			if (retain && result != null) {
+				completed.put(key, new Retained(fingerprint, result));
+			}
+			flight.result().complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			flight.result().completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	private void requireSameRequest(String expected, String actual) {
+		if (!Objects.equals(expected, actual)) {
+			mismatched.increment();
+			throw new GeneralException(AiErrorStatus.AI_IDEMPOTENCY_KEY_MISMATCH);
+		}
+	}
+
+	private Object await(CompletableFuture<Object> flight) {
+		try {
+			return flight.get(joinTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			timedOut.increment();
+			throw new GeneralException(AiErrorStatus.AI_GENERATION_TIMEOUT);
+		} catch (ExecutionException e) {
+			// leader 의 실패(서킷 open, 동시 호출 제한 등)를 같은 상태로 전달한다.
+			if (e.getCause() instanceof GeneralException generalException) {
+				throw generalException;
+			}
+			throw new GeneralException(AiErrorStatus.AI_GENERATION_FAILED);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(AiErrorStatus.AI_GENERATION_FAILED);
+		}
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("ai.describe.coalesced")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private record Flight(String fingerprint, CompletableFuture<Object> result) {
+	}
+
+	private record Retained(String fingerprint, Object result) {
+	}
+}
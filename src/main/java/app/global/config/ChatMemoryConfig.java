@@ -0,0 +1,51 @@
+package app.global.config;
+
+import java.time.Duration;
+
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
+import org.springframework.ai.chat.memory.repository.jdbc.PostgresChatMemoryRepositoryDialect;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.global.memory.CachingChatMemoryRepository;
+import app.global.memory.ChatMemoryCompactionStats;
+import app.global.memory.TokenBudgetChatMemory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ChatMemoryConfig {
+
+	@Bean
+	public ChatMemoryRepository chatMemoryRepository(JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${ai.chat.memory.cache.max-chars:20000000}") long maxCachedChars,
+		@Value("${ai.chat.memory.cache.ttl:PT30S}") Duration cacheTtl) {
+		ChatMemoryRepository jdbcChatMemoryRepository = JdbcChatMemoryRepository.builder()
+			.jdbcTemplate(jdbcTemplate)
+			.dialect(new PostgresChatMemoryRepositoryDialect())
+			.transactionManager(transactionManager)
+			.build();
+		// 버전 갱신과 saveAll 이 같은 트랜잭션에 묶이도록 같은 트랜잭션 관리자를 쓴다.
+		return new CachingChatMemoryRepository(jdbcChatMemoryRepository,
+			CachingChatMemoryRepository.jdbcVersions(jdbcTemplate, new TransactionTemplate(transactionManager)),
+			maxCachedChars, cacheTtl, meterRegistry);
+	}
+
+	@Bean
+	public ChatMemory chatMemory(ChatMemoryRepository chatMemoryRepository, ChatMemoryCompactionStats compactionStats,
+		@Value("${ai.chat.memory.compaction.max-tokens:2000}") int maxTokens,
+		@Value("${ai.chat.memory.compaction.max-message-tokens:300}") int maxMessageTokens,
+		@Value("${ai.chat.memory.compaction.keep-recent-messages:4}") int keepRecentMessages,
+		@Value("${ai.chat.memory.compaction.truncated-line-chars:120}") int truncatedLineChars,
+		@Value("${ai.chat.memory.compaction.max-truncated-lines:20}") int maxTruncatedLines) {
+		return new TokenBudgetChatMemory(chatMemoryRepository, new JTokkitTokenCountEstimator(), compactionStats,
+			maxTokens, maxMessageTokens, keepRecentMessages, truncatedLineChars, maxTruncatedLines);
+	}
+}
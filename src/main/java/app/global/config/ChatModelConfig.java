@@ -0,0 +1,32 @@
+package app.global.config;
+
+import java.time.Duration;
+
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import app.global.ratelimit.ConcurrencyLimitingChatModel;
+import app.global.routing.ModelRoutingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(ModelRoutingProperties.class)
+public class ChatModelConfig {
+
+	@Bean
+	@Primary
+	public ConcurrencyLimitingChatModel concurrencyLimitingChatModel(OpenAiChatModel openAiChatModel, MeterRegistry meterRegistry,
+		@Value("${ai.rate-limit.max-concurrent-llm-calls:32}") int maxConcurrentCalls,
+		@Value("${ai.rate-limit.acquire-timeout:PT2S}") Duration acquireTimeout) {
+		ConcurrencyLimitingChatModel chatModel = new ConcurrencyLimitingChatModel(openAiChatModel, maxConcurrentCalls,
+			acquireTimeout);
+		Gauge.builder("ai.llm.calls.inflight", chatModel, ConcurrencyLimitingChatModel::inFlight)
+			.register(meterRegistry);
+		return chatModel;
+	}
+}
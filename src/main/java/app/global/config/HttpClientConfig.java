@@ -0,0 +1,167 @@
+package app.global.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+
+import app.global.resilience.LlmDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+// RestTemplate/RestClient(OpenAI 동기 호출, 다른 서비스 호출)와 WebClient(OpenAI 스트리밍)가 공유하는 커넥션 풀.
+// 연결을 keep-alive 로 재사용해 요청마다 TCP/TLS 핸드셰이크를 하지 않도록 하고,
+// 풀 사용량은 httpcomponents.httpclient.pool.* 지표(httpclient=rest|stream)로 노출한다.
+@Configuration
+public class HttpClientConfig {
+
+	@Value("${ai.http-client.max-total:200}")
+	private int maxTotal;
+
+	@Value("${ai.http-client.max-per-route:50}")
+	private int maxPerRoute;
+
+	@Value("${ai.http-client.connect-timeout:PT5S}")
+	private Duration connectTimeout;
+
+	@Value("${ai.http-client.response-timeout:PT30S}")
+	private Duration responseTimeout;
+
+	@Value("${ai.http-client.connection-request-timeout:PT2S}")
+	private Duration connectionRequestTimeout;
+
+	@Value("${ai.http-client.keep-alive:PT60S}")
+	private Duration keepAlive;
+
+	@Value("${ai.http-client.idle-timeout:PT30S}")
+	private Duration idleTimeout;
+
+	@Value("${ai.http-client.validate-after-inactivity:PT2S}")
+	private Duration validateAfterInactivity;
+
+	@Value("${ai.http-client.time-to-live:PT10M}")
+	private Duration timeToLive;
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager httpConnectionManager(MeterRegistry meterRegistry) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(maxPerRoute)
+			.setDefaultConnectionConfig(connectionConfig())
+			.setDefaultSocketConfig(SocketConfig.custom()
+				.setSoKeepAlive(true)
+				.setTcpNoDelay(true)
+				.build())
+			.build();
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "rest").bindTo(meterRegistry);
+		return connectionManager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+		return HttpClients.custom()
+			.setConnectionManager(httpConnectionManager)
+			.setDefaultRequestConfig(requestConfig())
+			.evictIdleConnections(TimeValue.of(idleTimeout))
+			.evictExpiredConnections()
+			.build();
+	}
+
+	@Bean
+	public HttpComponentsClientHttpRequestFactory pooledClientHttpRequestFactory(CloseableHttpClient pooledHttpClient) {
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+		// LlmCallExecutor 안에서 보내는 OpenAI 호출은 마감 시간까지 남은 시간만 응답을 기다린다.
+		requestFactory.setHttpContextFactory((method, uri) -> LlmDeadline.remaining()
+			.map(this::deadlineContext)
+			.orElse(null));
+		return requestFactory;
+	}
+
+	// Spring AI 의 OpenAI 클라이언트도 컨텍스트의 RestClient.Builder 를 사용하므로 함께 적용된다.
+	@Bean
+	public RestClientCustomizer pooledRestClientCustomizer(
+		HttpComponentsClientHttpRequestFactory pooledClientHttpRequestFactory) {
+		return builder -> builder.requestFactory(pooledClientHttpRequestFactory);
+	}
+
+	// OpenAI 스트리밍 호출용. TLS 연결에서는 ALPN 으로 HTTP/2 를 협상하고 지원하지 않으면 HTTP/1.1 을 사용한다.
+	@Bean(destroyMethod = "close")
+	public PoolingAsyncClientConnectionManager asyncHttpConnectionManager(MeterRegistry meterRegistry) {
+		PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(maxPerRoute)
+			.setDefaultConnectionConfig(connectionConfig())
+			.setDefaultTlsConfig(TlsConfig.custom()
+				.setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+				.build())
+			.build();
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "stream").bindTo(meterRegistry);
+		return connectionManager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpAsyncClient pooledHttpAsyncClient(PoolingAsyncClientConnectionManager asyncHttpConnectionManager) {
+		CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+			.setConnectionManager(asyncHttpConnectionManager)
+			.setDefaultRequestConfig(requestConfig())
+			.evictIdleConnections(TimeValue.of(idleTimeout))
+			.evictExpiredConnections()
+			.build();
+		client.start();
+		return client;
+	}
+
+	@Bean
+	public WebClientCustomizer pooledWebClientCustomizer(CloseableHttpAsyncClient pooledHttpAsyncClient) {
+		HttpComponentsClientHttpConnector connector = new HttpComponentsClientHttpConnector(pooledHttpAsyncClient);
+		return builder -> builder.clientConnector(connector);
+	}
+
+	private ConnectionConfig connectionConfig() {
+		return ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.of(connectTimeout))
+			.setSocketTimeout(Timeout.of(responseTimeout))
+			.setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+			.setTimeToLive(TimeValue.of(timeToLive))
+			.build();
+	}
+
+	private HttpClientContext deadlineContext(Duration remaining) {
+		Duration timeout = remaining.compareTo(responseTimeout) < 0 ? remaining : responseTimeout;
+		HttpClientContext context = HttpClientContext.create();
+		context.setRequestConfig(RequestConfig.copy(requestConfig())
+			.setResponseTimeout(Timeout.ofMilliseconds(Math.max(1, timeout.toMillis())))
+			.build());
+		return context;
+	}
+
+	// 서버가 Keep-Alive 헤더를 주지 않으면 keep-alive 시간 동안 연결을 재사용한다.
+	private RequestConfig requestConfig() {
+		return RequestConfig.custom()
+			.setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+			.setResponseTimeout(Timeout.of(responseTimeout))
+			.setConnectionKeepAlive(TimeValue.of(keepAlive))
+			.build();
+	}
+}
@@ -0,0 +1,54 @@
+package app.global.config;
+
+import java.util.List;
+
+import org.springframework.ai.mcp.SyncMcpToolCallbackProvider;
+import org.springframework.ai.model.tool.DefaultToolCallingManager;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.execution.ToolExecutionExceptionProcessor;
+import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.global.metrics.LlmMetrics;
+import app.global.tool.CachingToolCallbackProvider;
+import app.global.tool.McpToolProperties;
+import app.global.tool.ParallelToolCallingManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.modelcontextprotocol.client.McpSyncClient;
+
+@Configuration
+@EnableConfigurationProperties(McpToolProperties.class)
+public class McpToolConfig {
+
+	@Bean
+	@Primary
+	public ToolCallbackProvider cachingToolCallbackProvider(ObjectProvider<List<McpSyncClient>> mcpSyncClients,
+		McpToolProperties mcpToolProperties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		List<McpSyncClient> clients = mcpSyncClients.stream().flatMap(List::stream).toList();
+		return new CachingToolCallbackProvider(new SyncMcpToolCallbackProvider(clients), mcpToolProperties, objectMapper,
+			meterRegistry);
+	}
+
+	@Bean
+	public ToolCallingManager toolCallingManager(ToolCallbackResolver toolCallbackResolver,
+		ToolExecutionExceptionProcessor toolExecutionExceptionProcessor,
+		ObjectProvider<ObservationRegistry> observationRegistry, McpToolProperties mcpToolProperties, LlmMetrics llmMetrics,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		ToolCallingManager defaultToolCallingManager = DefaultToolCallingManager.builder()
+			.observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
+			.toolCallbackResolver(toolCallbackResolver)
+			.toolExecutionExceptionProcessor(toolExecutionExceptionProcessor)
+			.build();
+		return new ParallelToolCallingManager(defaultToolCallingManager, toolCallbackResolver,
+			toolExecutionExceptionProcessor, mcpToolProperties, llmMetrics, virtualThreads);
+	}
+}
@@ -3,10 +3,9 @@ package app.global.config;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 import app.commonUtil.security.TokenPrincipalParser;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 public class RestTemplateConfig {
 
 	private final TokenPrincipalParser tokenPrincipalParser;
+	private final HttpComponentsClientHttpRequestFactory pooledClientHttpRequestFactory;
 
 	@Bean
 	public RestTemplate restTemplate(RestTemplateBuilder builder) {
@@ -24,7 +24,8 @@ public class RestTemplateConfig {
 					.ifPresent(token -> req.getHeaders().setBearerAuth(token));
 				return ex.execute(req, body);
 			})
-			.connectTimeout(Duration.ofSeconds(5))
+			// 타임아웃과 keep-alive 는 HttpClientConfig 의 커넥션 풀 설정을 따른다.
+			.requestFactory(() -> pooledClientHttpRequestFactory)
 			.build();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package app.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import app.global.ratelimit.AiRateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final AiRateLimitInterceptor aiRateLimitInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// OpenAI 를 호출하는 API 만 제한한다. (작업 상태, 이력 조회는 제외)
+		// 일괄 생성은 항목 수에 따라 비용이 달라 AiService 가 검증 후 청크 수만큼 차감한다.
+		registry.addInterceptor(aiRateLimitInterceptor)
+			.addPathPatterns("/ai/describe", "/ai/describe/async", "/ai/chat", "/ai/chat/stream",
+				"/ai/rx/describe", "/ai/rx/chat");
+	}
+}
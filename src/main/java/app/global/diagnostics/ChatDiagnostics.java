@@ -0,0 +1,68 @@
+package app.global.diagnostics;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 대화 메모리 스냅샷은 DEBUG 레벨에서 지정된 대화 또는 샘플링된 요청에 한해 메시지 종류와 길이만 남긴다.
+// (본문은 기록하지 않는다) 토큰 사용량은 LlmMetricsAdvisor 가 ai.llm.tokens 로 기록한다.
+@Slf4j
+@Component
+public class ChatDiagnostics {
+
+	private final ChatMemoryRepository chatMemoryRepository;
+	private final Set<String> tracedConversationIds = ConcurrentHashMap.newKeySet();
+	private final double snapshotSampleRate;
+
+	public ChatDiagnostics(ChatMemoryRepository chatMemoryRepository,
+		@Value("${ai.chat.diagnostics.conversation-ids:}") Set<String> tracedConversationIds,
+		@Value("${ai.chat.diagnostics.snapshot-sample-rate:0.0}") double snapshotSampleRate) {
+		this.chatMemoryRepository = chatMemoryRepository;
+		this.tracedConversationIds.addAll(tracedConversationIds);
+		this.snapshotSampleRate = snapshotSampleRate;
+	}
+
+	public void recordTurn(String conversationId, ChatResponse chatResponse) {
+		if (log.isDebugEnabled() && shouldSnapshot(conversationId)) {
+			snapshot(conversationId, chatResponse != null ? chatResponse.getMetadata().getUsage() : null);
+		}
+	}
+
+	public void trace(String conversationId, boolean enabled) {
+		if (enabled) {
+			tracedConversationIds.add(conversationId);
+		} else {
+			tracedConversationIds.remove(conversationId);
+		}
+	}
+
+	public Set<String> getTracedConversationIds() {
+		return Set.copyOf(tracedConversationIds);
+	}
+
+	private boolean shouldSnapshot(String conversationId) {
+		return tracedConversationIds.contains(conversationId)
+			|| (snapshotSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < snapshotSampleRate);
+	}
+
+	private void snapshot(String conversationId, Usage usage) {
+		List<Message> messages = chatMemoryRepository.findByConversationId(conversationId);
+		StringBuilder summary = new StringBuilder();
+		for (Message message : messages) {
+			String text = message.getText();
+			summary.append(message.getMessageType()).append(':').append(text != null ? text.length() : 0).append(' ');
+		}
+		log.debug("chat memory snapshot conversationId={} messages={} promptTokens={} sizes=[{}]",
+			conversationId, messages.size(), usage != null ? usage.getPromptTokens() : null, summary.toString().trim());
+	}
+}
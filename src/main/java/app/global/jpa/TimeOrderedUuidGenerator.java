@@ -0,0 +1,31 @@
+package app.global.jpa;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+// RFC 9562 UUIDv7: 상위 48비트가 밀리초 타임스탬프라 새 키가 인덱스 끝에 모여 B-tree 페이지 분할이 줄어든다.
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+		return next();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+
+	public static UUID next() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFF);
+		long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+}
@@ -0,0 +1,136 @@
+package app.global.memory;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// DB 저장소 앞단의 write-through 캐시. 대화 내용 크기(문자 수) 합으로 메모리 사용량을 제한한다.
+// 다른 인스턴스가 같은 대화를 갱신했을 수 있으므로, 캐시된 사본은 DB 의 대화 버전이 캐시할 때와 같을 때만 사용한다.
+// (saveAll 이 대화를 통째로 다시 쓰므로, 오래된 사본으로 쓰면 다른 인스턴스의 턴이 사라진다)
+// - 조회: 기본 키로 버전 한 건만 읽고, 같으면 메시지를 읽지 않는다.
+// - 저장: 버전 갱신과 saveAll 을 한 트랜잭션에서 하고, 그 쓰기의 버전으로 저장한 메시지를 캐시에 넣는다.
+public class CachingChatMemoryRepository implements ChatMemoryRepository {
+
+	private static final String SELECT_VERSION = """
+		select version from ai_chat_memory_version where conversation_id = ?
+		""";
+	// 버전 행의 잠금이 같은 대화의 쓰기를 직렬화하므로, 돌려받은 버전은 이 트랜잭션이 쓴 메시지와 짝이 맞는다.
+	private static final String NEXT_VERSION = """
+		insert into ai_chat_memory_version (conversation_id, version, updated_at)
+		values (?, nextval('ai_chat_memory_version_seq'), now())
+		on conflict (conversation_id) do update set version = excluded.version, updated_at = excluded.updated_at
+		returning version
+		""";
+
+	private final ChatMemoryRepository delegate;
+	private final ConversationVersions versions;
+	private final Cache<String, CachedConversation> cache;
+	private final DistributionSummary conversationLength;
+	private final Counter staleReads;
+
+	public CachingChatMemoryRepository(ChatMemoryRepository delegate, ConversationVersions versions, long maxCachedChars,
+		Duration ttl, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.versions = versions;
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maxCachedChars)
+			.weigher((String conversationId, CachedConversation conversation) -> weightOf(conversation.messages()))
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.chat.memory");
+		this.conversationLength = DistributionSummary.builder("ai.chat.memory.conversation.messages")
+			.baseUnit("messages")
+			.register(meterRegistry);
+		this.staleReads = Counter.builder("ai.chat.memory.cache.stale")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public List<String> findConversationIds() {
+		return delegate.findConversationIds();
+	}
+
+	@Override
+	public List<Message> findByConversationId(String conversationId) {
+		// 버전을 메시지보다 먼저 읽는다. 그 사이에 갱신되면 다음 조회에서 버전이 달라 다시 읽게 된다.
+		Object version = versions.current(conversationId);
+		CachedConversation cached = cache.getIfPresent(conversationId);
+		if (cached != null) {
+			if (cached.version().equals(version)) {
+				return cached.messages();
+			}
+			staleReads.increment();
+		}
+		List<Message> messages = List.copyOf(delegate.findByConversationId(conversationId));
+		cache.put(conversationId, new CachedConversation(version, messages));
+		return messages;
+	}
+
+	@Override
+	public void saveAll(String conversationId, List<Message> messages) {
+		List<Message> saved = List.copyOf(messages);
+		Object version = versions.write(conversationId, () -> delegate.saveAll(conversationId, saved));
+		cache.put(conversationId, new CachedConversation(version, saved));
+		conversationLength.record(saved.size());
+	}
+
+	@Override
+	public void deleteByConversationId(String conversationId) {
+		Object version = versions.write(conversationId, () -> delegate.deleteByConversationId(conversationId));
+		cache.put(conversationId, new CachedConversation(version, List.of()));
+	}
+
+	// delegate 는 같은 트랜잭션 관리자(같은 DataSource)로 쓰는 JdbcChatMemoryRepository 여야 write 와 한 트랜잭션에 묶인다.
+	public static ConversationVersions jdbcVersions(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+		return new ConversationVersions() {
+			@Override
+			public Object current(String conversationId) {
+				List<Long> found = jdbcTemplate.queryForList(SELECT_VERSION, Long.class, conversationId);
+				return found.isEmpty() ? 0L : found.get(0);
+			}
+
+			@Override
+			public Object write(String conversationId, Runnable write) {
+				return transactionTemplate.execute(status -> {
+					Long version = jdbcTemplate.queryForObject(NEXT_VERSION, Long.class, conversationId);
+					write.run();
+					return version;
+				});
+			}
+		};
+	}
+
+	private static int weightOf(List<Message> messages) {
+		int weight = 1;
+		for (Message message : messages) {
+			String text = message.getText();
+			weight += text != null ? text.length() : 0;
+		}
+		return weight;
+	}
+
+	public interface ConversationVersions {
+
+		// 같은 대화가 갱신되지 않았으면 같은(equals) 값을 돌려준다.
+		Object current(String conversationId);
+
+		// write 를 실행하고 그 쓰기 뒤의 버전을 돌려준다. 같은 대화의 다른 쓰기와 겹치지 않아야 한다.
+		Object write(String conversationId, Runnable write);
+	}
+
+	private record CachedConversation(Object version, List<Message> messages) {
+	}
+}
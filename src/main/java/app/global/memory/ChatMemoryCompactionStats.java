@@ -0,0 +1,69 @@
+package app.global.memory;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 대화 메모리 압축으로 줄어든 프롬프트 토큰을 기록한다.
+// 절감량은 압축 없이 전체 대화를 매 턴 다시 보냈을 때와 비교한 값이며, 대화별 값은 최근 대화만 보관한다.
+@Component
+public class ChatMemoryCompactionStats {
+
+	private final Cache<String, Savings> savingsByConversation;
+	private final DistributionSummary removedTokens;
+	private final Counter savedPromptTokens;
+
+	public ChatMemoryCompactionStats(MeterRegistry meterRegistry,
+		@Value("${ai.chat.memory.compaction.stats-max-size:10000}") long maxSize,
+		@Value("${ai.chat.memory.idle-ttl:P7D}") Duration idleTtl) {
+		this.savingsByConversation = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterAccess(idleTtl)
+			.build();
+		this.removedTokens = DistributionSummary.builder("ai.chat.memory.compaction.removed")
+			.baseUnit("tokens")
+			.register(meterRegistry);
+		this.savedPromptTokens = Counter.builder("ai.chat.memory.compaction.saved")
+			.baseUnit("tokens")
+			.description("compaction 없이 전체 대화를 보냈을 때 대비 절감된 프롬프트 토큰")
+			.register(meterRegistry);
+	}
+
+	void recordCompaction(String conversationId, int originalTokens, int compactedTokens) {
+		int removed = Math.max(0, originalTokens - compactedTokens);
+		removedTokens.record(removed);
+		savingsByConversation.asMap().merge(conversationId, new Savings(1, removed, compactedTokens, 0),
+			(previous, current) -> new Savings(previous.compactions() + 1, previous.removedTokens() + removed,
+				compactedTokens, previous.savedPromptTokens()));
+	}
+
+	void recordReplay(String conversationId) {
+		Savings savings = savingsByConversation.asMap().computeIfPresent(conversationId,
+			(id, previous) -> new Savings(previous.compactions(), previous.removedTokens(), previous.memoryTokens(),
+				previous.savedPromptTokens() + previous.removedTokens()));
+		if (savings != null) {
+			savedPromptTokens.increment(savings.removedTokens());
+		}
+	}
+
+	void clear(String conversationId) {
+		savingsByConversation.invalidate(conversationId);
+	}
+
+	public Savings get(String conversationId) {
+		return savingsByConversation.getIfPresent(conversationId);
+	}
+
+	// removedTokens: 압축으로 대화에서 빠진 누적 토큰, memoryTokens: 마지막 압축 후 메모리 토큰,
+	// savedPromptTokens: 이후 턴에서 다시 보내지 않아 절감된 누적 프롬프트 토큰
+	public record Savings(int compactions, long removedTokens, int memoryTokens, long savedPromptTokens) {
+	}
+}
@@ -0,0 +1,47 @@
+package app.global.memory;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ChatMemoryRetentionJob {
+
+	private static final String DELETE_IDLE_CONVERSATIONS = """
+		DELETE FROM SPRING_AI_CHAT_MEMORY
+		WHERE conversation_id IN (
+			SELECT conversation_id FROM SPRING_AI_CHAT_MEMORY
+			GROUP BY conversation_id
+			HAVING MAX("timestamp") < ?)
+		""";
+	private static final String DELETE_IDLE_VERSIONS = """
+		DELETE FROM ai_chat_memory_version WHERE updated_at < ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Duration idleTtl;
+
+	public ChatMemoryRetentionJob(JdbcTemplate jdbcTemplate,
+		@Value("${ai.chat.memory.idle-ttl:P7D}") Duration idleTtl) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.idleTtl = idleTtl;
+	}
+
+	@Scheduled(fixedDelayString = "${ai.chat.memory.cleanup-interval:PT1H}")
+	public void deleteIdleConversations() {
+		Timestamp cutoff = Timestamp.from(Instant.now().minus(idleTtl));
+		int deleted = jdbcTemplate.update(DELETE_IDLE_CONVERSATIONS, cutoff);
+		jdbcTemplate.update(DELETE_IDLE_VERSIONS, cutoff);
+		if (deleted > 0) {
+			log.info("Deleted {} chat memory messages idle for more than {}", deleted, idleTtl);
+		}
+	}
+}
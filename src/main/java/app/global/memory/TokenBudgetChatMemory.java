@@ -0,0 +1,218 @@
+package app.global.memory;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.util.Assert;
+
+// 메시지 개수 대신 토큰 예산으로 대화 메모리를 제한한다.
+// 예산을 넘으면 최근 메시지는 남기고, 오래된 메시지의 긴 본문(메뉴 목록 등)을 줄인 뒤 그래도 넘으면
+// 오래된 턴을 한 줄로 접어 대화 앞쪽의 "[이전 대화 요약]" 메시지에 모은다. 압축 결과는 저장소에 그대로 저장한다.
+// 접은 줄은 모델로 요약한 것이 아니라 본문 앞 truncated-line-chars 자만 잘라 남긴 발췌다.
+// 토큰 수는 메시지마다 한 번만 세고, 줄이거나 접을 때 합계에서 빼고 더한다.
+public class TokenBudgetChatMemory implements ChatMemory {
+
+	static final String SUMMARY_HEADER = "[이전 대화 요약]";
+	private static final String ELLIPSIS = " …(생략)";
+
+	private final ChatMemoryRepository chatMemoryRepository;
+	private final TokenCountEstimator tokenCountEstimator;
+	private final ChatMemoryCompactionStats compactionStats;
+	private final int maxTokens;
+	private final int maxMessageTokens;
+	private final int keepRecentMessages;
+	private final int truncatedLineChars;
+	private final int maxTruncatedLines;
+
+	public TokenBudgetChatMemory(ChatMemoryRepository chatMemoryRepository, TokenCountEstimator tokenCountEstimator,
+		ChatMemoryCompactionStats compactionStats, int maxTokens, int maxMessageTokens, int keepRecentMessages,
+		int truncatedLineChars, int maxTruncatedLines) {
+		Assert.isTrue(maxTokens > 0, "maxTokens must be greater than 0");
+		Assert.isTrue(keepRecentMessages > 0, "keepRecentMessages must be greater than 0");
+		this.chatMemoryRepository = chatMemoryRepository;
+		this.tokenCountEstimator = tokenCountEstimator;
+		this.compactionStats = compactionStats;
+		this.maxTokens = maxTokens;
+		this.maxMessageTokens = maxMessageTokens;
+		this.keepRecentMessages = keepRecentMessages;
+		this.truncatedLineChars = truncatedLineChars;
+		this.maxTruncatedLines = maxTruncatedLines;
+	}
+
+	@Override
+	public void add(String conversationId, List<Message> messages) {
+		Assert.hasText(conversationId, "conversationId cannot be null or empty");
+		List<Message> conversation = new ArrayList<>(chatMemoryRepository.findByConversationId(conversationId));
+		conversation.addAll(messages);
+
+		int originalTokens = tokensOf(conversation);
+		if (originalTokens > maxTokens) {
+			conversation = compact(conversation);
+			compactionStats.recordCompaction(conversationId, originalTokens, tokensOf(conversation));
+		}
+		chatMemoryRepository.saveAll(conversationId, conversation);
+	}
+
+	@Override
+	public List<Message> get(String conversationId) {
+		Assert.hasText(conversationId, "conversationId cannot be null or empty");
+		List<Message> conversation = chatMemoryRepository.findByConversationId(conversationId);
+		compactionStats.recordReplay(conversationId);
+		return conversation;
+	}
+
+	@Override
+	public void clear(String conversationId) {
+		Assert.hasText(conversationId, "conversationId cannot be null or empty");
+		chatMemoryRepository.deleteByConversationId(conversationId);
+		compactionStats.clear(conversationId);
+	}
+
+	private List<Message> compact(List<Message> conversation) {
+		LinkedList<String> summaryLines = new LinkedList<>();
+		List<Message> turns = new ArrayList<>(conversation.size());
+		for (Message message : conversation) {
+			if (isSummary(message)) {
+				message.getText().lines().skip(1).forEach(summaryLines::add);
+			} else {
+				turns.add(message);
+			}
+		}
+
+		int recentFrom = Math.max(0, turns.size() - keepRecentMessages);
+		List<Message> older = new ArrayList<>(turns.subList(0, recentFrom));
+		List<Message> recent = new ArrayList<>(turns.subList(recentFrom, turns.size()));
+
+		// 1. 오래된 메시지의 긴 본문을 줄인다.
+		older.replaceAll(this::shrink);
+
+		// 요약 메시지의 토큰은 머리글과 (줄바꿈을 포함한) 줄마다 센 값의 합으로 어림한다.
+		int headerTokens = tokenCountEstimator.estimate(SUMMARY_HEADER);
+		LinkedList<Integer> summaryLineTokens = new LinkedList<>();
+		for (String line : summaryLines) {
+			summaryLineTokens.add(tokenCountEstimator.estimate("\n" + line));
+		}
+		int[] olderTokens = tokensEach(older);
+		int[] recentTokens = tokensEach(recent);
+		int total = sum(olderTokens) + sum(recentTokens) + sum(summaryLineTokens) + (summaryLines.isEmpty() ? 0 : headerTokens);
+
+		// 2. 그래도 넘으면 오래된 메시지부터 한 줄로 접는다.
+		int folded = 0;
+		while (folded < older.size() && total > maxTokens) {
+			String line = truncatedLineOf(older.get(folded));
+			int lineTokens = tokenCountEstimator.estimate("\n" + line);
+			total += lineTokens - olderTokens[folded] + (summaryLines.isEmpty() ? headerTokens : 0);
+			summaryLines.add(line);
+			summaryLineTokens.add(lineTokens);
+			if (summaryLines.size() > maxTruncatedLines) {
+				summaryLines.removeFirst();
+				total -= summaryLineTokens.removeFirst() + (summaryLines.isEmpty() ? headerTokens : 0);
+			}
+			folded++;
+		}
+		older = older.subList(folded, older.size());
+
+		// 3. 최근 메시지만으로도 넘으면 마지막 메시지를 제외한 긴 본문을 줄인다.
+		if (total > maxTokens) {
+			for (int i = 0; i < recent.size() - 1; i++) {
+				Message shrunk = shrink(recent.get(i));
+				if (shrunk != recent.get(i)) {
+					int shrunkTokens = tokensOf(shrunk);
+					total += shrunkTokens - recentTokens[i];
+					recentTokens[i] = shrunkTokens;
+					recent.set(i, shrunk);
+				}
+			}
+		}
+
+		// 4. 요약 자체가 예산을 넘기면 오래된 요약 줄부터 버린다.
+		while (!summaryLines.isEmpty() && total > maxTokens) {
+			summaryLines.removeFirst();
+			total -= summaryLineTokens.removeFirst() + (summaryLines.isEmpty() ? headerTokens : 0);
+		}
+
+		List<Message> compacted = new ArrayList<>(older.size() + recent.size() + 1);
+		if (!summaryLines.isEmpty()) {
+			compacted.add(summaryOf(summaryLines));
+		}
+		compacted.addAll(older);
+		compacted.addAll(recent);
+		return compacted;
+	}
+
+	private Message shrink(Message message) {
+		String text = message.getText();
+		if (text == null || tokenCountEstimator.estimate(text) <= maxMessageTokens) {
+			return message;
+		}
+		// 토큰당 평균 문자 수로 자를 위치를 잡는다.
+		int keepChars = (int)((long)text.length() * maxMessageTokens / tokenCountEstimator.estimate(text));
+		String shortened = text.substring(0, Math.max(0, keepChars)) + ELLIPSIS;
+		return switch (message.getMessageType()) {
+			case USER -> new UserMessage(shortened);
+			case ASSISTANT -> new AssistantMessage(shortened);
+			case SYSTEM -> new SystemMessage(shortened);
+			default -> message;
+		};
+	}
+
+	// 본문 앞부분만 잘라 남긴다. (요약이 아니다)
+	private String truncatedLineOf(Message message) {
+		String text = message.getText() == null ? "" : message.getText().replaceAll("\\s+", " ").strip();
+		if (text.length() > truncatedLineChars) {
+			text = text.substring(0, truncatedLineChars) + "…";
+		}
+		return "- " + message.getMessageType().getValue() + ": " + text;
+	}
+
+	private static Message summaryOf(List<String> summaryLines) {
+		return new SystemMessage(SUMMARY_HEADER + "\n" + String.join("\n", summaryLines));
+	}
+
+	private static boolean isSummary(Message message) {
+		return message.getMessageType() == MessageType.SYSTEM
+			&& message.getText() != null
+			&& message.getText().startsWith(SUMMARY_HEADER);
+	}
+
+	private int tokensOf(List<Message> messages) {
+		return sum(tokensEach(messages));
+	}
+
+	private int tokensOf(Message message) {
+		return message.getText() != null ? tokenCountEstimator.estimate(message.getText()) : 0;
+	}
+
+	private int[] tokensEach(List<Message> messages) {
+		int[] tokens = new int[messages.size()];
+		for (int i = 0; i < tokens.length; i++) {
+			tokens[i] = tokensOf(messages.get(i));
+		}
+		return tokens;
+	}
+
+	private static int sum(int[] values) {
+		int sum = 0;
+		for (int value : values) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	private static int sum(List<Integer> values) {
+		int sum = 0;
+		for (int value : values) {
+			sum += value;
+		}
+		return sum;
+	}
+}
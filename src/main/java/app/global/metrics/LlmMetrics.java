@@ -0,0 +1,73 @@
+package app.global.metrics;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+// 서비스 자체 지표. OpenAI 호출 시간(ai.llm.call), MCP 도구 시간(ai.mcp.tool.calls),
+// 설명 생성 결과(ai.describe.requests)를 분리해 기록한다. 백분위 히스토그램은 application.yml 에서 켠다.
+@Component
+@RequiredArgsConstructor
+public class LlmMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	public LlmMetricsAdvisor advisor(String endpoint) {
+		return new LlmMetricsAdvisor(this, endpoint);
+	}
+
+	void recordCall(String endpoint, String model, String outcome, long elapsedNanos) {
+		Timer.builder("ai.llm.call")
+			.tag("endpoint", endpoint)
+			.tag("model", model)
+			.tag("outcome", outcome)
+			.register(meterRegistry)
+			.record(Duration.ofNanos(elapsedNanos));
+	}
+
+	void recordTokens(String endpoint, String type, Integer tokens) {
+		if (tokens == null) {
+			return;
+		}
+		DistributionSummary.builder("ai.llm.tokens")
+			.tag("endpoint", endpoint)
+			.tag("type", type)
+			.baseUnit("tokens")
+			.register(meterRegistry)
+			.record(tokens);
+	}
+
+	public void recordToolCall(String toolName, String outcome, long elapsedNanos) {
+		Timer.builder("ai.mcp.tool.calls")
+			.tag("tool", toolName)
+			.tag("outcome", outcome)
+			.register(meterRegistry)
+			.record(Duration.ofNanos(elapsedNanos));
+	}
+
+	public void recordToolRound(int toolCalls) {
+		DistributionSummary.builder("ai.mcp.tool.round.size")
+			.baseUnit("calls")
+			.register(meterRegistry)
+			.record(toolCalls);
+	}
+
+	// mode: sync, async, batch / cached: 응답 캐시에서 바로 응답했는지
+	public void recordDescription(String mode, ReqType reqType, AiRequestStatus status, boolean cached) {
+		Counter.builder("ai.describe.requests")
+			.tag("mode", mode)
+			.tag("req.type", reqType.name())
+			.tag("status", status.name())
+			.tag("cached", String.valueOf(cached))
+			.register(meterRegistry)
+			.increment();
+	}
+}
@@ -0,0 +1,99 @@
+package app.global.metrics;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.core.Ordered;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+// 모델 호출 바로 바깥에서 OpenAI 호출 시간과 토큰 사용량을 기록한다.
+// 채팅의 경우 모델 호출 안에서 도구가 실행되므로 도구 시간은 ai.mcp.tool.calls 로 따로 본다.
+public class LlmMetricsAdvisor implements CallAdvisor, StreamAdvisor {
+
+	private static final String UNKNOWN_MODEL = "unknown";
+
+	private final LlmMetrics llmMetrics;
+	private final String endpoint;
+
+	LlmMetricsAdvisor(LlmMetrics llmMetrics, String endpoint) {
+		this.llmMetrics = llmMetrics;
+		this.endpoint = endpoint;
+	}
+
+	@Override
+	public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+		long startedAt = System.nanoTime();
+		try {
+			ChatClientResponse chatClientResponse = callAdvisorChain.nextCall(chatClientRequest);
+			record(chatClientRequest, chatClientResponse.chatResponse(), "success", startedAt);
+			return chatClientResponse;
+		} catch (RuntimeException e) {
+			record(chatClientRequest, null, "error", startedAt);
+			throw e;
+		}
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest, StreamAdvisorChain streamAdvisorChain) {
+		AtomicReference<ChatResponse> lastWithUsage = new AtomicReference<>();
+		return Flux.defer(() -> {
+			long startedAt = System.nanoTime();
+			return streamAdvisorChain.nextStream(chatClientRequest)
+				.doOnNext(chatClientResponse -> {
+					ChatResponse chatResponse = chatClientResponse.chatResponse();
+					if (chatResponse != null && chatResponse.getMetadata().getUsage() != null
+						&& chatResponse.getMetadata().getUsage().getTotalTokens() != null
+						&& chatResponse.getMetadata().getUsage().getTotalTokens() > 0) {
+						lastWithUsage.set(chatResponse);
+					}
+				})
+				.doFinally(signal -> record(chatClientRequest, lastWithUsage.get(), outcomeOf(signal), startedAt));
+		});
+	}
+
+	@Override
+	public String getName() {
+		return "LlmMetricsAdvisor";
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE - 1;
+	}
+
+	private void record(ChatClientRequest chatClientRequest, ChatResponse chatResponse, String outcome, long startedAt) {
+		llmMetrics.recordCall(endpoint, modelOf(chatClientRequest, chatResponse), outcome, System.nanoTime() - startedAt);
+		Usage usage = chatResponse != null ? chatResponse.getMetadata().getUsage() : null;
+		if (usage != null) {
+			llmMetrics.recordTokens(endpoint, "prompt", usage.getPromptTokens());
+			llmMetrics.recordTokens(endpoint, "completion", usage.getCompletionTokens());
+		}
+	}
+
+	private static String modelOf(ChatClientRequest chatClientRequest, ChatResponse chatResponse) {
+		if (chatResponse != null && chatResponse.getMetadata().getModel() != null
+			&& !chatResponse.getMetadata().getModel().isEmpty()) {
+			return chatResponse.getMetadata().getModel();
+		}
+		ChatOptions options = chatClientRequest.prompt().getOptions();
+		return options != null && options.getModel() != null ? options.getModel() : UNKNOWN_MODEL;
+	}
+
+	private static String outcomeOf(SignalType signal) {
+		return switch (signal) {
+			case ON_COMPLETE -> "success";
+			case CANCEL -> "cancelled";
+			default -> "error";
+		};
+	}
+}
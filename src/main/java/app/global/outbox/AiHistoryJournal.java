@@ -0,0 +1,177 @@
+package app.global.outbox;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 대기열에 넣은 기록을 로컬 디스크에 "seq<TAB>json" 한 줄씩 먼저 남기는 append-only 로그.
+// segment-records 건마다 새 세그먼트 파일로 넘기고, DB 반영이 확인된 seq 까지의 세그먼트는 지운다.
+// 프로세스가 비정상 종료되면 남은 세그먼트를 다음 기동 때 recover 로 읽어 다시 기록한다.
+// append 는 요청 스레드에서 디스크에 쓰므로, 가상 스레드가 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+@Slf4j
+class AiHistoryJournal implements Closeable {
+
+	private static final String SUFFIX = ".log";
+
+	private final Path directory;
+	private final ObjectMapper objectMapper;
+	private final int segmentRecords;
+	private final boolean fsync;
+	private final Deque<Segment> closedSegments = new ArrayDeque<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private List<Path> recoveredFiles = List.of();
+
+	private FileChannel active;
+	private Path activePath;
+	private long activeLastSeq;
+	private int activeCount;
+	private long lastSeq;
+
+	AiHistoryJournal(Path directory, ObjectMapper objectMapper, int segmentRecords, boolean fsync) throws IOException {
+		this.directory = directory;
+		this.objectMapper = objectMapper;
+		this.segmentRecords = segmentRecords;
+		this.fsync = fsync;
+		Files.createDirectories(directory);
+	}
+
+	// 쓰다가 끊긴 마지막 줄처럼 읽을 수 없는 줄은 건너뛴다.
+	List<AiHistoryRecord> recover() throws IOException {
+		lock.lock();
+		try {
+			List<Path> files;
+			try (Stream<Path> paths = Files.list(directory)) {
+				files = paths.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+			}
+			List<AiHistoryRecord> records = new ArrayList<>();
+			for (Path file : files) {
+				for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+					int separator = line.indexOf('\t');
+					if (separator < 0) {
+						continue;
+					}
+					try {
+						lastSeq = Math.max(lastSeq, Long.parseLong(line.substring(0, separator)));
+						records.add(objectMapper.readValue(line.substring(separator + 1), AiHistoryRecord.class));
+					} catch (NumberFormatException | JsonProcessingException e) {
+						log.warn("Skipping unreadable journal line in {}", file.getFileName());
+					}
+				}
+			}
+			recoveredFiles = files;
+			return records;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void deleteRecovered() throws IOException {
+		lock.lock();
+		try {
+			for (Path file : recoveredFiles) {
+				Files.deleteIfExists(file);
+			}
+			recoveredFiles = List.of();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	long append(AiHistoryRecord record) throws IOException {
+		lock.lock();
+		try {
+			if (active == null) {
+				openSegment(lastSeq + 1);
+			}
+			long seq = lastSeq + 1;
+			byte[] line = (seq + "\t" + objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+			ByteBuffer buffer = ByteBuffer.wrap(line);
+			while (buffer.hasRemaining()) {
+				active.write(buffer);
+			}
+			if (fsync) {
+				active.force(false);
+			}
+			lastSeq = seq;
+			activeLastSeq = seq;
+			if (++activeCount >= segmentRecords) {
+				closeActive();
+			}
+			return seq;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 기록은 seq 순서대로 DB 에 반영되므로 seq 이하만 담은 세그먼트는 모두 지울 수 있다.
+	void acknowledge(long seq) throws IOException {
+		lock.lock();
+		try {
+			while (!closedSegments.isEmpty() && closedSegments.peekFirst().lastSeq() <= seq) {
+				Files.deleteIfExists(closedSegments.pollFirst().path());
+			}
+			if (active != null && activeLastSeq <= seq) {
+				Path acknowledged = activePath;
+				active.close();
+				active = null;
+				Files.deleteIfExists(acknowledged);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int segmentCount() {
+		lock.lock();
+		try {
+			return closedSegments.size() + (active != null ? 1 : 0);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 반영되지 않은 세그먼트는 남겨 두어 다음 기동 때 재생한다.
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			if (active != null) {
+				active.close();
+				active = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void openSegment(long firstSeq) throws IOException {
+		activePath = directory.resolve(String.format("%020d%s", firstSeq, SUFFIX));
+		active = FileChannel.open(activePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		activeCount = 0;
+	}
+
+	private void closeActive() throws IOException {
+		active.close();
+		active = null;
+		closedSegments.addLast(new Segment(activePath, activeLastSeq));
+	}
+
+	private record Segment(Path path, long lastSeq) {
+	}
+}
@@ -0,0 +1,323 @@
+package app.global.outbox;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.model.entity.AiHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// AiHistory 쓰기를 요청 경로에서 떼어내는 write-behind 파이프라인.
+// save 는 저널에 한 줄을 남기고 제한된 대기열에 넣은 뒤 바로 반환하며, 별도 스레드가 대기열을 모아 배치로 기록한다.
+// - 대기열이 가득 차거나 실행 중이 아니면(기동 전, 종료 후) 요청 스레드에서 바로 기록한다.
+// - 아직 DB 에 반영되지 않은 기록은 find 로 조회할 수 있어 비동기 요청의 결과 조회가 어긋나지 않는다.
+// - 웹 서버보다 먼저 시작하고(저널 재생) 웹 서버가 멈춘 뒤 drain-timeout 동안 남은 기록을 비운다.
+// - 연결 끊김, 락 타임아웃 같은 일시적인 DB 오류만 다시 시도한다. 제약 위반, 값 길이 초과처럼 기록 자체가 잘못된 경우는
+//   배치를 반으로 나눠 가며 문제 기록만 골라 dead-letter(로그 + ai.history.outbox.dead_letter)로 빼고 나머지는 기록한다.
+@Slf4j
+@Component
+public class AiHistoryOutbox implements SmartLifecycle {
+
+	private static final long INITIAL_BACKOFF_MILLIS = 100;
+	private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+	private final AiHistoryWriter writer;
+	private final ObjectMapper objectMapper;
+	private final BlockingQueue<Entry> queue;
+	private final Map<UUID, AiHistoryRecord> unflushed = new ConcurrentHashMap<>();
+	private final ReentrantLock enqueueLock = new ReentrantLock();
+	private final int batchSize;
+	private final Duration flushInterval;
+	private final Duration drainTimeout;
+	private final boolean journalEnabled;
+	private final Path journalDirectory;
+	private final int journalSegmentRecords;
+	private final boolean journalFsync;
+	private final Timer flushTimer;
+	private final DistributionSummary batchSizes;
+	private final Counter overflows;
+	private final Counter flushFailures;
+	private final Counter deadLetters;
+
+	private volatile boolean running;
+	private AiHistoryJournal journal;
+	private Thread writerThread;
+
+	public AiHistoryOutbox(AiHistoryWriter writer, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+		@Value("${ai.history.outbox.capacity:10000}") int capacity,
+		@Value("${ai.history.outbox.batch-size:200}") int batchSize,
+		@Value("${ai.history.outbox.flush-interval:PT0.2S}") Duration flushInterval,
+		@Value("${ai.history.outbox.drain-timeout:PT20S}") Duration drainTimeout,
+		@Value("${ai.history.outbox.journal.enabled:true}") boolean journalEnabled,
+		@Value("${ai.history.outbox.journal.dir:data/ai-history-outbox}") Path journalDirectory,
+		@Value("${ai.history.outbox.journal.segment-records:10000}") int journalSegmentRecords,
+		@Value("${ai.history.outbox.journal.fsync:false}") boolean journalFsync) {
+		this.writer = writer;
+		this.objectMapper = objectMapper;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.drainTimeout = drainTimeout;
+		this.journalEnabled = journalEnabled;
+		this.journalDirectory = journalDirectory;
+		this.journalSegmentRecords = journalSegmentRecords;
+		this.journalFsync = journalFsync;
+
+		Gauge.builder("ai.history.outbox.queue.depth", queue, BlockingQueue::size)
+			.register(meterRegistry);
+		Gauge.builder("ai.history.outbox.journal.segments", this, outbox -> outbox.journal != null ? outbox.journal.segmentCount() : 0)
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("ai.history.outbox.flush")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.batchSizes = DistributionSummary.builder("ai.history.outbox.batch.size")
+			.register(meterRegistry);
+		this.overflows = Counter.builder("ai.history.outbox.overflow")
+			.register(meterRegistry);
+		this.flushFailures = Counter.builder("ai.history.outbox.flush.failures")
+			.register(meterRegistry);
+		this.deadLetters = Counter.builder("ai.history.outbox.dead_letter")
+			.register(meterRegistry);
+	}
+
+	public AiHistory save(AiHistory history) {
+		AiHistoryRecord record = AiHistoryRecord.of(history, LocalDateTime.now());
+		if (!running || !enqueue(record)) {
+			writer.write(List.of(record));
+		}
+		return history;
+	}
+
+	public List<AiHistory> saveAll(List<AiHistory> histories) {
+		histories.forEach(this::save);
+		return histories;
+	}
+
+	public Optional<AiHistory> find(UUID aiRequestId) {
+		return Optional.ofNullable(unflushed.get(aiRequestId)).map(AiHistoryRecord::toEntity);
+	}
+
+	// 저널 seq 순서와 대기열 순서가 같아야 acknowledge 가 아직 반영되지 않은 세그먼트를 지우지 않는다.
+	private boolean enqueue(AiHistoryRecord record) {
+		enqueueLock.lock();
+		try {
+			if (queue.remainingCapacity() == 0) {
+				overflows.increment();
+				return false;
+			}
+			long seq = 0;
+			if (journal != null) {
+				try {
+					seq = journal.append(record);
+				} catch (IOException e) {
+					log.error("Failed to append AiHistory {} to the outbox journal", record.aiRequestId(), e);
+				}
+			}
+			unflushed.put(record.aiRequestId(), record);
+			queue.add(new Entry(seq, record));
+			return true;
+		} finally {
+			enqueueLock.unlock();
+		}
+	}
+
+	@Override
+	public void start() {
+		if (journalEnabled) {
+			try {
+				journal = new AiHistoryJournal(journalDirectory, objectMapper, journalSegmentRecords, journalFsync);
+				replay(journal.recover());
+			} catch (IOException e) {
+				log.error("AiHistory outbox journal is unavailable at {}, continuing without it", journalDirectory, e);
+				journal = null;
+			}
+		}
+		running = true;
+		writerThread = Thread.ofPlatform().name("ai-history-writer").start(this::runWriter);
+	}
+
+	// 이전 실행에서 남은 기록을 다시 쓴다. 일시적인 오류로 DB 에 쓰지 못하면 파일을 남겨 다음 기동 때 다시 시도한다.
+	private void replay(List<AiHistoryRecord> recovered) throws IOException {
+		if (recovered.isEmpty()) {
+			return;
+		}
+		log.info("Replaying {} AiHistory records from the outbox journal", recovered.size());
+		try {
+			for (int from = 0; from < recovered.size(); from += batchSize) {
+				write(latestPerRequest(recovered.subList(from, Math.min(from + batchSize, recovered.size()))), false);
+			}
+			journal.deleteRecovered();
+		} catch (RuntimeException e) {
+			log.error("Failed to replay the outbox journal, keeping it for the next start", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (writerThread == null) {
+			return;
+		}
+		try {
+			writerThread.join(drainTimeout.toMillis());
+			if (writerThread.isAlive()) {
+				writerThread.interrupt();
+				writerThread.join(1_000);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!queue.isEmpty()) {
+			log.warn("{} AiHistory records were not flushed before shutdown and remain in the journal", queue.size());
+		}
+		if (journal != null) {
+			try {
+				journal.close();
+			} catch (IOException e) {
+				log.warn("Failed to close the outbox journal", e);
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 멈춘다.
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	private void runWriter() {
+		List<Entry> batch = new ArrayList<>(batchSize);
+		while ((running || !queue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+			try {
+				Entry first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	// 종료 중 재시도가 중단되면 저널에 남은 기록이 다음 기동 때 재생된다.
+	private void flush(List<Entry> batch) throws InterruptedException {
+		List<AiHistoryRecord> records = latestPerRequest(batch.stream().map(Entry::record).toList());
+		long startedAt = System.nanoTime();
+		write(records, true);
+		flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		batchSizes.record(records.size());
+
+		for (Entry entry : batch) {
+			unflushed.remove(entry.record().aiRequestId(), entry.record());
+		}
+		if (journal != null) {
+			try {
+				journal.acknowledge(batch.get(batch.size() - 1).seq());
+			} catch (IOException e) {
+				log.warn("Failed to delete acknowledged outbox journal segments", e);
+			}
+		}
+	}
+
+	// 일시적인 오류는 retryTransient 면 지수 백오프로 다시 시도하고 아니면 그대로 던진다.
+	// 영구 오류는 배치를 반으로 나눠 다시 쓰고, 한 건만 남았는데도 실패하면 그 기록을 dead-letter 로 뺀다.
+	// (upsert 라 나눠 쓰는 동안 이미 반영된 기록을 다시 써도 결과가 같다)
+	private void write(List<AiHistoryRecord> records, boolean retryTransient) throws InterruptedException {
+		long backoffMillis = INITIAL_BACKOFF_MILLIS;
+		while (true) {
+			try {
+				writer.write(records);
+				return;
+			} catch (RuntimeException e) {
+				flushFailures.increment();
+				if (!isTransient(e)) {
+					if (records.size() == 1) {
+						deadLetter(records.get(0), e);
+					} else {
+						int middle = records.size() / 2;
+						write(records.subList(0, middle), retryTransient);
+						write(records.subList(middle, records.size()), retryTransient);
+					}
+					return;
+				}
+				if (!retryTransient) {
+					throw e;
+				}
+				log.warn("Failed to flush {} AiHistory records, retrying in {}ms", records.size(), backoffMillis, e);
+				Thread.sleep(backoffMillis);
+				backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+			}
+		}
+	}
+
+	// 연결 획득/끊김(NonTransientDataAccessResourceException 포함)은 DB 가 돌아오면 성공하므로 일시적인 오류로 본다.
+	private static boolean isTransient(RuntimeException e) {
+		return e instanceof TransientDataAccessException
+			|| e instanceof RecoverableDataAccessException
+			|| e instanceof NonTransientDataAccessResourceException
+			|| e instanceof TransactionException;
+	}
+
+	private void deadLetter(AiHistoryRecord record, RuntimeException e) {
+		deadLetters.increment();
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(record);
+		} catch (IOException serializationFailure) {
+			json = String.valueOf(record);
+		}
+		log.error("Dead-lettered AiHistory {} after a permanent write failure: {}", record.aiRequestId(), json, e);
+	}
+
+	// 한 배치에 같은 요청의 PENDING 과 결과가 함께 있으면 마지막 상태만 기록한다.
+	private static List<AiHistoryRecord> latestPerRequest(List<AiHistoryRecord> records) {
+		Map<UUID, AiHistoryRecord> latest = new LinkedHashMap<>();
+		for (AiHistoryRecord record : records) {
+			AiHistoryRecord previous = latest.remove(record.aiRequestId());
+			latest.put(record.aiRequestId(), previous == null ? record : record.withCreatedAt(previous.createdAt()));
+		}
+		return new ArrayList<>(latest.values());
+	}
+
+	private record Entry(long seq, AiHistoryRecord record) {
+	}
+}
@@ -0,0 +1,63 @@
+package app.global.outbox;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import app.model.entity.AiHistory;
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+
+// 대기열과 저널에 넣는 AiHistory 의 불변 스냅샷. 요청 처리 중 엔티티가 바뀌어도 기록 시점의 상태를 유지한다.
+public record AiHistoryRecord(
+	UUID aiRequestId,
+	Long userId,
+	String storeName,
+	String menuName,
+	ReqType reqType,
+	String promptText,
+	String generatedContent,
+	AiRequestStatus status,
+	boolean cached,
+	boolean fallback,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt) {
+
+	static AiHistoryRecord of(AiHistory history, LocalDateTime now) {
+		if (history.getAiRequestId() == null) {
+			throw new IllegalArgumentException("AiHistory must have an id before it is written");
+		}
+		return new AiHistoryRecord(history.getAiRequestId(), history.getUserId(), history.getStoreName(),
+			history.getMenuName(), history.getReqType(), history.getPromptText(), history.getGeneratedContent(),
+			history.getStatus(), history.isCached(), history.isFallback(), createdAtOf(history.getAiRequestId(), now), now);
+	}
+
+	// 파티션 키(created_at)가 PENDING 과 결과 기록에서 같아야 같은 행으로 upsert 되므로 UUIDv7 의 타임스탬프를 쓴다.
+	static LocalDateTime createdAtOf(UUID aiRequestId, LocalDateTime now) {
+		if (aiRequestId.version() != 7) {
+			return now;
+		}
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(aiRequestId.getMostSignificantBits() >>> 16), ZoneId.systemDefault());
+	}
+
+	AiHistoryRecord withCreatedAt(LocalDateTime createdAt) {
+		return new AiHistoryRecord(aiRequestId, userId, storeName, menuName, reqType, promptText, generatedContent,
+			status, cached, fallback, createdAt, updatedAt);
+	}
+
+	AiHistory toEntity() {
+		return AiHistory.builder()
+			.aiRequestId(aiRequestId)
+			.userId(userId)
+			.storeName(storeName)
+			.menuName(menuName)
+			.reqType(reqType)
+			.promptText(promptText)
+			.generatedContent(generatedContent)
+			.status(status)
+			.cached(cached)
+			.fallback(fallback)
+			.build();
+	}
+}
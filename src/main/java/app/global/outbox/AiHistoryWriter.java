@@ -0,0 +1,9 @@
+package app.global.outbox;
+
+import java.util.List;
+
+public interface AiHistoryWriter {
+
+	// 같은 aiRequestId 가 다시 기록되어도 결과가 같아야 한다. (저널 재생 시 중복 기록됨)
+	void write(List<AiHistoryRecord> records);
+}
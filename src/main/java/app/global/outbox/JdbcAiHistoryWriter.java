@@ -0,0 +1,49 @@
+package app.global.outbox;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// p_ai_history 에 JDBC 배치 upsert 로 기록한다.
+// 완료(SUCCESS/FAILED) 상태는 늦게 도착한 PENDING 으로 되돌리지 않는다.
+// 충돌 대상은 파티션 테이블의 기본 키(ai_request_id, created_at)와 같은 유니크 인덱스다. (db/p_ai_history.sql)
+@Component
+@RequiredArgsConstructor
+public class JdbcAiHistoryWriter implements AiHistoryWriter {
+
+	private static final String UPSERT = """
+		insert into p_ai_history (ai_request_id, user_id, store_name, menu_name, req_type, prompt_text,
+			generated_content, status, cached, fallback, created_at, updated_at)
+		values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		on conflict (ai_request_id, created_at) do update set
+			generated_content = excluded.generated_content,
+			status = excluded.status,
+			cached = excluded.cached,
+			fallback = excluded.fallback,
+			updated_at = excluded.updated_at
+		where p_ai_history.status = 'PENDING' or excluded.status <> 'PENDING'
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void write(List<AiHistoryRecord> records) {
+		jdbcTemplate.batchUpdate(UPSERT, records, records.size(), (ps, record) -> {
+			ps.setObject(1, record.aiRequestId());
+			ps.setLong(2, record.userId());
+			ps.setString(3, record.storeName());
+			ps.setString(4, record.menuName());
+			ps.setString(5, record.reqType().name());
+			ps.setString(6, record.promptText());
+			ps.setString(7, record.generatedContent());
+			ps.setString(8, record.status().name());
+			ps.setBoolean(9, record.cached());
+			ps.setBoolean(10, record.fallback());
+			ps.setObject(11, record.createdAt());
+			ps.setObject(12, record.updatedAt());
+		});
+	}
+}
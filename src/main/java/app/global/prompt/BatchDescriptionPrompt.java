@@ -0,0 +1,12 @@
+package app.global.prompt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchDescriptionPrompt {
+	private final DescriptionPrompt template;
+	private final DescriptionPrompt itemTemplate;
+	private final int chunkSize;
+}
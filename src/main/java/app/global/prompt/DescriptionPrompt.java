@@ -0,0 +1,56 @@
+package app.global.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+// 템플릿을 로딩 시점에 고정 문자열/변수 조각으로 분해해 두고, 요청마다 조각을 이어 붙이기만 한다.
+public class DescriptionPrompt {
+
+	private static final Pattern VARIABLE = Pattern.compile("\\{(\\w+)}");
+
+	private final List<String> literals;
+	private final List<String> variables;
+	private final int estimatedLength;
+
+	@Getter
+	private final int maxLength;
+
+	private DescriptionPrompt(List<String> literals, List<String> variables, int maxLength) {
+		this.literals = literals;
+		this.variables = variables;
+		this.maxLength = maxLength;
+		this.estimatedLength = literals.stream().mapToInt(String::length).sum() + variables.size() * 16;
+	}
+
+	public static DescriptionPrompt compile(String template, int maxLength, Set<String> allowedVariables) {
+		List<String> literals = new ArrayList<>();
+		List<String> variables = new ArrayList<>();
+		Matcher matcher = VARIABLE.matcher(template);
+		int last = 0;
+		while (matcher.find()) {
+			String variable = matcher.group(1);
+			if (!allowedVariables.contains(variable)) {
+				throw new IllegalArgumentException("Unknown prompt variable: " + variable);
+			}
+			literals.add(template.substring(last, matcher.start()));
+			variables.add(variable);
+			last = matcher.end();
+		}
+		literals.add(template.substring(last));
+		return new DescriptionPrompt(List.copyOf(literals), List.copyOf(variables), maxLength);
+	}
+
+	public String render(Map<String, ?> values) {
+		StringBuilder builder = new StringBuilder(estimatedLength);
+		for (int i = 0; i < variables.size(); i++) {
+			builder.append(literals.get(i)).append(values.get(variables.get(i)));
+		}
+		return builder.append(literals.get(variables.size())).toString();
+	}
+}
@@ -0,0 +1,114 @@
+package app.global.prompt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.Yaml;
+
+import app.model.entity.enums.ReqType;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DescriptionPromptRegistry {
+
+	private static final Set<String> VARIABLES = Set.of("storeName", "menuName", "reqType", "promptText", "maxLength");
+	private static final Set<String> BATCH_ITEM_VARIABLES = Set.of("index", "storeName", "menuName", "reqType", "promptText", "maxLength");
+	private static final Set<String> BATCH_VARIABLES = Set.of("items");
+	private static final String BATCH_KEY = "BATCH";
+
+	private final Resource location;
+	private volatile Prompts prompts;
+	private volatile long lastModified;
+
+	public DescriptionPromptRegistry(
+		@Value("${ai.prompt.location:classpath:prompts/description-prompts.yml}") Resource location) {
+		this.location = location;
+		this.prompts = load();
+		this.lastModified = lastModifiedOf(location);
+	}
+
+	public DescriptionPrompt get(ReqType reqType) {
+		return prompts.byReqType().get(reqType);
+	}
+
+	public DescriptionPrompt getFallback(ReqType reqType) {
+		return prompts.fallbackByReqType().get(reqType);
+	}
+
+	public BatchDescriptionPrompt getBatch() {
+		return prompts.batch();
+	}
+
+	@Scheduled(fixedDelayString = "${ai.prompt.reload-interval:PT30S}")
+	public void reloadIfModified() {
+		long modified = lastModifiedOf(location);
+		if (modified <= lastModified) {
+			return;
+		}
+		try {
+			prompts = load();
+			lastModified = modified;
+			log.info("Reloaded description prompts from {}", location);
+		} catch (RuntimeException e) {
+			log.warn("Failed to reload description prompts from {}. Keeping previous templates.", location, e);
+		}
+	}
+
+	private Prompts load() {
+		Map<String, Map<String, Object>> definitions;
+		try (InputStream inputStream = location.getInputStream()) {
+			definitions = new Yaml().load(inputStream);
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read description prompts from " + location, e);
+		}
+
+		Map<ReqType, DescriptionPrompt> loaded = new EnumMap<>(ReqType.class);
+		Map<ReqType, DescriptionPrompt> fallbacks = new EnumMap<>(ReqType.class);
+		for (ReqType reqType : ReqType.values()) {
+			Map<String, Object> definition = definitions.get(reqType.name());
+			if (definition == null) {
+				throw new IllegalStateException("Missing description prompt for " + reqType);
+			}
+			int maxLength = ((Number) definition.get("max-length")).intValue();
+			loaded.put(reqType, DescriptionPrompt.compile((String) definition.get("template"), maxLength, VARIABLES));
+			if (definition.get("fallback-template") == null) {
+				throw new IllegalStateException("Missing fallback description template for " + reqType);
+			}
+			fallbacks.put(reqType, DescriptionPrompt.compile((String) definition.get("fallback-template"), maxLength, VARIABLES));
+		}
+
+		Map<String, Object> batchDefinition = definitions.get(BATCH_KEY);
+		if (batchDefinition == null) {
+			throw new IllegalStateException("Missing batch description prompt");
+		}
+		// chunk-size 가 0 이하이면 일괄 생성 루프가 끝나지 않으므로 불러오지 않고 이전 템플릿을 유지한다.
+		if (!(batchDefinition.get("chunk-size") instanceof Number chunkSize) || chunkSize.intValue() < 1) {
+			throw new IllegalStateException("Batch description chunk-size must be a positive number");
+		}
+		BatchDescriptionPrompt batch = new BatchDescriptionPrompt(
+			DescriptionPrompt.compile((String) batchDefinition.get("template"), 0, BATCH_VARIABLES),
+			DescriptionPrompt.compile((String) batchDefinition.get("item-template"), 0, BATCH_ITEM_VARIABLES),
+			chunkSize.intValue());
+		return new Prompts(loaded, fallbacks, batch);
+	}
+
+	private record Prompts(Map<ReqType, DescriptionPrompt> byReqType, Map<ReqType, DescriptionPrompt> fallbackByReqType,
+		BatchDescriptionPrompt batch) {
+	}
+
+	private static long lastModifiedOf(Resource resource) {
+		try {
+			return resource.lastModified();
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+}
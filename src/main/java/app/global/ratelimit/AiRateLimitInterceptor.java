@@ -0,0 +1,39 @@
+package app.global.ratelimit;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import app.commonUtil.security.TokenPrincipalParser;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// OpenAI 를 호출하는 API 앞단에서 사용자별 요청 속도를 제한한다.
+@Component
+@RequiredArgsConstructor
+public class AiRateLimitInterceptor implements HandlerInterceptor {
+
+	private final TokenPrincipalParser tokenPrincipalParser;
+	private final AiRateLimiter aiRateLimiter;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		// 스트리밍, /ai/rx 응답은 ASYNC 로 다시 디스패치되며 preHandle 이 한 번 더 불린다. 첫 디스패치에서만 센다.
+		if (request.getDispatcherType() == DispatcherType.ASYNC) {
+			return true;
+		}
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null) {
+			return true;
+		}
+		String userId = tokenPrincipalParser.getUserId(authentication);
+		if (userId == null) {
+			return true;
+		}
+		aiRateLimiter.acquire(userId, 1, response);
+		return true;
+	}
+}
@@ -0,0 +1,47 @@
+package app.global.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import jakarta.servlet.http.HttpServletResponse;
+
+// OpenAI 를 호출하는 API 의 사용자별 요청 한도. 보통은 AiRateLimitInterceptor 가 요청마다 하나씩 차감하고,
+// 본문을 검증해야 비용을 알 수 있는 API(일괄 생성)는 서비스에서 필요한 만큼 직접 차감한다.
+@Component
+public class AiRateLimiter {
+
+	private final UserRateLimiter userRateLimiter;
+
+	public AiRateLimiter(
+		@Value("${ai.rate-limit.requests-per-minute:30}") int requestsPerMinute,
+		@Value("${ai.rate-limit.burst:10}") int burst,
+		@Value("${ai.rate-limit.max-users:100000}") long maxUsers) {
+		this.userRateLimiter = new UserRateLimiter(requestsPerMinute, burst, maxUsers);
+	}
+
+	public void acquire(String userId, int permits, HttpServletResponse response) {
+		Duration retryAfter = userRateLimiter.tryAcquire(userId, permits);
+		if (retryAfter.isZero()) {
+			return;
+		}
+		if (response != null) {
+			// 남은 시간을 초 단위로 올림한다. 이보다 일찍 다시 보내면 또 거절된다.
+			long retryAfterSeconds = retryAfter.plusNanos(999_999_999).toSeconds();
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+		}
+		throw new GeneralException(AiErrorStatus.AI_RATE_LIMITED);
+	}
+
+	public void acquire(String userId, int permits) {
+		HttpServletResponse response = RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+			? attributes.getResponse() : null;
+		acquire(userId, permits, response);
+	}
+}
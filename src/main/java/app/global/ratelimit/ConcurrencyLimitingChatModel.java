@@ -0,0 +1,81 @@
+package app.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import reactor.core.publisher.Flux;
+
+// 인스턴스 전체에서 동시에 진행 중인 OpenAI 호출 수를 제한한다.
+// 도구 호출로 이어지는 후속 요청은 같은 호출 안에서 처리되므로 한 턴이 허가 하나만 사용한다.
+public class ConcurrencyLimitingChatModel implements ChatModel {
+
+	private final ChatModel delegate;
+	private final Semaphore permits;
+	private final int maxConcurrentCalls;
+	private final Duration acquireTimeout;
+
+	public ConcurrencyLimitingChatModel(ChatModel delegate, int maxConcurrentCalls, Duration acquireTimeout) {
+		this.delegate = delegate;
+		this.permits = new Semaphore(maxConcurrentCalls);
+		this.maxConcurrentCalls = maxConcurrentCalls;
+		this.acquireTimeout = acquireTimeout;
+	}
+
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		acquire();
+		try {
+			return delegate.call(prompt);
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		// 구독 스레드가 이벤트 루프일 수 있으므로 허가를 기다리지 않고 바로 거절한다.
+		return Flux.defer(() -> {
+			if (!permits.tryAcquire()) {
+				return Flux.error(new GeneralException(AiErrorStatus.AI_CONCURRENCY_LIMITED));
+			}
+			try {
+				return delegate.stream(prompt).doFinally(signal -> permits.release());
+			} catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+		});
+	}
+
+	@Override
+	public ChatOptions getDefaultOptions() {
+		return delegate.getDefaultOptions();
+	}
+
+	public int inFlight() {
+		return maxConcurrentCalls - permits.availablePermits();
+	}
+
+	public double utilization() {
+		return (double)inFlight() / maxConcurrentCalls;
+	}
+
+	private void acquire() {
+		try {
+			if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+				throw new GeneralException(AiErrorStatus.AI_CONCURRENCY_LIMITED);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(AiErrorStatus.AI_CONCURRENCY_LIMITED);
+		}
+	}
+}
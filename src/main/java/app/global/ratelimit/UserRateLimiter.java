@@ -0,0 +1,59 @@
+package app.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 사용자별 토큰 버킷(GCRA). 사용자마다 "다음 요청이 허용되는 이론상 시각" 하나만 AtomicLong 으로 두고 CAS 로 갱신하므로
+// 요청 경로에서 잠금을 잡지 않는다. 사용자 맵은 Caffeine(내부적으로 스트라이프된 해시 맵)이 관리하며
+// 한동안 요청이 없는 사용자는 버킷이 가득 찬 상태와 같으므로 만료시켜도 된다.
+public class UserRateLimiter {
+
+	private final long emissionIntervalNanos;
+	private final long burstToleranceNanos;
+	private final int burst;
+	private final Cache<String, AtomicLong> buckets;
+	private final LongSupplier nanoTime;
+
+	public UserRateLimiter(int requestsPerMinute, int burst, long maxUsers) {
+		this(requestsPerMinute, burst, maxUsers, System::nanoTime);
+	}
+
+	UserRateLimiter(int requestsPerMinute, int burst, long maxUsers, LongSupplier nanoTime) {
+		this.nanoTime = nanoTime;
+		this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+		this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+		this.burst = Math.max(1, burst);
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(maxUsers)
+			.expireAfterAccess(Duration.ofNanos(emissionIntervalNanos + burstToleranceNanos).plusSeconds(1))
+			.build();
+	}
+
+	// 허용되면 Duration.ZERO, 거절되면 다시 시도할 수 있을 때까지 남은 시간을 돌려준다.
+	public Duration tryAcquire(String userId) {
+		return tryAcquire(userId, 1);
+	}
+
+	// permits 개를 한 번에 차감한다. 버스트보다 크면 영원히 허용되지 않으므로 버스트 크기로 줄인다.
+	public Duration tryAcquire(String userId, int permits) {
+		long costNanos = emissionIntervalNanos * Math.min(Math.max(1, permits), burst);
+		long now = nanoTime.getAsLong();
+		AtomicLong theoreticalArrival = buckets.get(userId, id -> new AtomicLong(now));
+		while (true) {
+			long current = theoreticalArrival.get();
+			long base = Math.max(current, now);
+			long waitNanos = base + costNanos - emissionIntervalNanos - now - burstToleranceNanos;
+			if (waitNanos > 0) {
+				return Duration.ofNanos(waitNanos);
+			}
+			if (theoreticalArrival.compareAndSet(current, base + costNanos)) {
+				return Duration.ZERO;
+			}
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package app.global.resilience;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.model.entity.enums.ReqType;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// OpenAI 호출을 전체 마감 시간(deadline) 안에서 실행한다.
+// - 서킷이 열려 있으면 바로 거절한다.
+// - 일시적 오류는 지수 백오프 + full jitter 로 max-attempts 까지 재시도한다. (남은 시간 안에서만)
+// - 응답이 짧은 요청 유형(hedge.req-types)은 hedge.delay 안에 응답이 없으면 같은 요청을 한 번 더 보내 먼저 끝난 결과를 쓴다.
+// 마감 시간이 지나면 실행 중인 호출을 인터럽트로 취소해 요청 스레드가 OpenAI 지연에 묶여 있지 않게 한다.
+// 인터럽트로 소켓 읽기가 끝나지 않을 수 있으므로 HTTP 응답 대기 시간도 남은 시간으로 줄여(LlmDeadline),
+// 버려진 호출(시간 초과, hedge 에서 진 호출)이 동시 호출 허가를 마감 시간 이후까지 잡고 있지 않게 한다.
+@Slf4j
+@Component
+public class LlmCallExecutor implements DisposableBean {
+
+	private final LlmCircuitBreaker circuitBreaker;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final long deadlineNanos;
+	private final int maxAttempts;
+	private final long initialBackoffNanos;
+	private final long maxBackoffNanos;
+	private final List<ReqType> hedgedReqTypes;
+	private final long hedgeDelayNanos;
+	private final Counter abandonedCalls;
+
+	public LlmCallExecutor(LlmCircuitBreaker circuitBreaker, MeterRegistry meterRegistry,
+		@Value("${ai.resilience.deadline:PT20S}") Duration deadline,
+		@Value("${ai.resilience.max-attempts:3}") int maxAttempts,
+		@Value("${ai.resilience.backoff.initial:PT0.2S}") Duration initialBackoff,
+		@Value("${ai.resilience.backoff.max:PT2S}") Duration maxBackoff,
+		@Value("${ai.resilience.hedge.req-types:MENU_DESCRIPTION}") List<ReqType> hedgedReqTypes,
+		@Value("${ai.resilience.hedge.delay:PT1.5S}") Duration hedgeDelay) {
+		this.circuitBreaker = circuitBreaker;
+		this.deadlineNanos = deadline.toNanos();
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.initialBackoffNanos = initialBackoff.toNanos();
+		this.maxBackoffNanos = maxBackoff.toNanos();
+		this.hedgedReqTypes = List.copyOf(hedgedReqTypes);
+		this.hedgeDelayNanos = hedgeDelay.toNanos();
+		this.abandonedCalls = Counter.builder("ai.llm.call.abandoned")
+			.description("마감 시간 초과나 hedge 로 결과를 기다리지 않고 취소한 OpenAI 호출")
+			.register(meterRegistry);
+	}
+
+	public <T> T execute(Supplier<T> call) {
+		return execute(null, call);
+	}
+
+	public <T> T execute(ReqType reqType, Supplier<T> call) {
+		long deadline = System.nanoTime() + deadlineNanos;
+		boolean hedged = reqType != null && hedgedReqTypes.contains(reqType);
+		RuntimeException lastFailure = null;
+
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			if (!circuitBreaker.tryAcquirePermission()) {
+				throw new GeneralException(AiErrorStatus.AI_CIRCUIT_OPEN);
+			}
+			try {
+				return attempt(call, hedged, deadline);
+			} catch (TimeoutException e) {
+				throw new GeneralException(AiErrorStatus.AI_GENERATION_TIMEOUT);
+			} catch (RuntimeException e) {
+				if (!isRetryable(e)) {
+					throw e;
+				}
+				lastFailure = e;
+				log.warn("LLM call attempt {}/{} failed: {}", attempt, maxAttempts, e.getMessage());
+			}
+			if (attempt < maxAttempts && !backoff(attempt, deadline)) {
+				break;
+			}
+		}
+		throw lastFailure;
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private <T> T attempt(Supplier<T> call, boolean hedged, long deadline) throws TimeoutException {
+		ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		List<Future<T>> launched = new ArrayList<>(2);
+		launched.add(completionService.submit(recording(call, deadline)));
+		boolean hedgePending = hedged;
+		RuntimeException failure = null;
+		try {
+			int running = 1;
+			while (running > 0) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					circuitBreaker.onFailure();
+					throw new TimeoutException();
+				}
+				Future<T> done = completionService.poll(hedgePending ? Math.min(remaining, hedgeDelayNanos) : remaining,
+					TimeUnit.NANOSECONDS);
+				if (done == null) {
+					if (hedgePending && circuitBreaker.tryAcquirePermission()) {
+						launched.add(completionService.submit(recording(call, deadline)));
+						running++;
+					}
+					hedgePending = false;
+					continue;
+				}
+				running--;
+				hedgePending = false;
+				try {
+					return done.get();
+				} catch (ExecutionException e) {
+					failure = e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+				}
+			}
+			throw failure;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(AiErrorStatus.AI_GENERATION_TIMEOUT);
+		} finally {
+			for (Future<T> future : launched) {
+				if (future.cancel(true)) {
+					abandonedCalls.increment();
+				}
+			}
+		}
+	}
+
+	private <T> Callable<T> recording(Supplier<T> call, long deadline) {
+		return () -> {
+			LlmDeadline.set(deadline);
+			try {
+				T result = call.get();
+				circuitBreaker.onSuccess();
+				return result;
+			} catch (RuntimeException e) {
+				// 마감 시간 초과나 hedge 로 취소된 호출, 입력 오류 등은 OpenAI 장애로 집계하지 않는다.
+				if (Thread.currentThread().isInterrupted() || !isRetryable(e)) {
+					circuitBreaker.onIgnored();
+				} else {
+					circuitBreaker.onFailure();
+				}
+				throw e;
+			} finally {
+				LlmDeadline.clear();
+			}
+		};
+	}
+
+	private boolean backoff(int attempt, long deadline) {
+		long cap = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 20));
+		long sleepNanos = ThreadLocalRandom.current().nextLong(cap + 1);
+		if (System.nanoTime() + sleepNanos >= deadline) {
+			return false;
+		}
+		try {
+			TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static boolean isRetryable(RuntimeException e) {
+		return !(e instanceof GeneralException) && !(e instanceof NonTransientAiException);
+	}
+}
@@ -0,0 +1,148 @@
+package app.global.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 최근 window-size 건의 호출 결과로 실패율을 계산하는 개수 기반 서킷 브레이커.
+// OPEN 상태에서는 open-duration 동안 호출을 바로 거절하고, 이후 half-open-calls 건의 시험 호출이 모두 성공하면 닫는다.
+// 가상 스레드에서도 캐리어 스레드를 고정하지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+@Component
+public class LlmCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final boolean[] window;
+	private final int minimumCalls;
+	private final int failureRateThreshold;
+	private final long openDurationNanos;
+	private final int halfOpenCalls;
+
+	private State state = State.CLOSED;
+	private int windowIndex;
+	private int recordedCalls;
+	private int failedCalls;
+	private long openedAt;
+	private int halfOpenPermitted;
+	private int halfOpenSucceeded;
+
+	public LlmCircuitBreaker(
+		@Value("${ai.resilience.circuit-breaker.window-size:20}") int windowSize,
+		@Value("${ai.resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+		@Value("${ai.resilience.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+		@Value("${ai.resilience.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+		@Value("${ai.resilience.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+		this.window = new boolean[windowSize];
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.failureRateThreshold = failureRateThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.halfOpenCalls = halfOpenCalls;
+	}
+
+	public boolean tryAcquirePermission() {
+		lock.lock();
+		try {
+			if (state == State.OPEN) {
+				if (System.nanoTime() - openedAt < openDurationNanos) {
+					return false;
+				}
+				state = State.HALF_OPEN;
+				halfOpenPermitted = 0;
+				halfOpenSucceeded = 0;
+			}
+			if (state == State.HALF_OPEN) {
+				if (halfOpenPermitted >= halfOpenCalls) {
+					return false;
+				}
+				halfOpenPermitted++;
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void onSuccess() {
+		lock.lock();
+		try {
+			if (state == State.HALF_OPEN) {
+				if (++halfOpenSucceeded >= halfOpenCalls) {
+					close();
+				}
+			} else if (state == State.CLOSED) {
+				record(false);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void onFailure() {
+		lock.lock();
+		try {
+			if (state == State.HALF_OPEN) {
+				open();
+			} else if (state == State.CLOSED) {
+				record(true);
+				if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+					open();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 결과를 판단할 수 없는 호출(입력 오류, 취소 등)은 집계하지 않고 시험 호출 허가만 돌려준다.
+	public void onIgnored() {
+		lock.lock();
+		try {
+			if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+				halfOpenPermitted--;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public State getState() {
+		lock.lock();
+		try {
+			return state;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void record(boolean failed) {
+		if (recordedCalls == window.length) {
+			if (window[windowIndex]) {
+				failedCalls--;
+			}
+		} else {
+			recordedCalls++;
+		}
+		window[windowIndex] = failed;
+		if (failed) {
+			failedCalls++;
+		}
+		windowIndex = (windowIndex + 1) % window.length;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = System.nanoTime();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		windowIndex = 0;
+		recordedCalls = 0;
+		failedCalls = 0;
+	}
+}
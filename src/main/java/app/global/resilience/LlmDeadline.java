@@ -0,0 +1,27 @@
+package app.global.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// LlmCallExecutor 가 실행 중인 호출 스레드의 마감 시각(System.nanoTime 기준).
+// 취소(인터럽트)만으로는 HTTP 응답 대기가 끝나지 않을 수 있으므로, HTTP 클라이언트가 이 값으로 응답 대기 시간을 줄인다.
+public final class LlmDeadline {
+
+	private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+	private LlmDeadline() {
+	}
+
+	public static Optional<Duration> remaining() {
+		Long deadline = DEADLINE.get();
+		return deadline == null ? Optional.empty() : Optional.of(Duration.ofNanos(deadline - System.nanoTime()));
+	}
+
+	static void set(long deadlineNanos) {
+		DEADLINE.set(deadlineNanos);
+	}
+
+	static void clear() {
+		DEADLINE.remove();
+	}
+}
@@ -0,0 +1,82 @@
+package app.global.retention;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 여러 인스턴스 중 한 곳에서만 아카이브가 돌도록 Postgres 세션 advisory lock 을 잡는다.
+// 락은 풀과 별도로 잡아 둔 연결 하나에 묶여 있어, 실행 중 인스턴스가 죽으면 연결이 끊기면서 함께 풀린다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiHistoryArchiveLock {
+
+	private static final String LOCK_NAME = "p_ai_history.archive";
+
+	private final DataSource dataSource;
+
+	public Optional<Lease> tryAcquire() {
+		Connection connection = null;
+		try {
+			connection = dataSource.getConnection();
+			if (call(connection, "select pg_try_advisory_lock(hashtext(?))")) {
+				return Optional.of(new Lease(connection));
+			}
+			connection.close();
+			return Optional.empty();
+		} catch (SQLException e) {
+			closeQuietly(connection);
+			throw new IllegalStateException("Failed to acquire the ai history archive lock", e);
+		}
+	}
+
+	private static boolean call(Connection connection, String sql) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, LOCK_NAME);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() && resultSet.getBoolean(1);
+			}
+		}
+	}
+
+	private static void closeQuietly(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			log.warn("Failed to close the ai history archive lock connection", e);
+		}
+	}
+
+	public static class Lease implements AutoCloseable {
+
+		private final Connection connection;
+
+		private Lease(Connection connection) {
+			this.connection = connection;
+		}
+
+		// 풀로 돌아간 연결에 락이 남지 않도록 먼저 풀고 닫는다.
+		@Override
+		public void close() {
+			try {
+				call(connection, "select pg_advisory_unlock(hashtext(?))");
+			} catch (SQLException e) {
+				log.warn("Failed to release the ai history archive lock", e);
+			} finally {
+				closeQuietly(connection);
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package app.global.retention;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+
+// 아카이브 실행 한 번의 진행 상황. 아카이브 스레드만 갱신하고 관리자 조회는 volatile 값을 그대로 읽는다.
+@Getter
+public class AiHistoryArchiveRun {
+
+	public enum Trigger {
+		SCHEDULED, MANUAL
+	}
+
+	public enum Status {
+		RUNNING, COMPLETED, CANCELLED, FAILED
+	}
+
+	private final UUID runId;
+	private final Trigger trigger;
+	private final LocalDateTime cutoff;
+	private final LocalDateTime startedAt;
+	private volatile Status status = Status.RUNNING;
+	private volatile LocalDateTime finishedAt;
+	private volatile long archivedRows;
+	private volatile long deletedRows;
+	private volatile int batches;
+	private volatile long archiveBytes;
+	private volatile Path archiveFile;
+	private volatile List<String> droppedPartitions = List.of();
+	private volatile String error;
+
+	AiHistoryArchiveRun(UUID runId, Trigger trigger, LocalDateTime cutoff, LocalDateTime startedAt) {
+		this.runId = runId;
+		this.trigger = trigger;
+		this.cutoff = cutoff;
+		this.startedAt = startedAt;
+	}
+
+	void batchArchived(int rows, int deleted, long bytes) {
+		archivedRows += rows;
+		deletedRows += deleted;
+		batches++;
+		archiveBytes = bytes;
+	}
+
+	void archivedTo(Path file, long bytes) {
+		archiveFile = file;
+		archiveBytes = bytes;
+	}
+
+	// 내보낸 행은 batchArchived 로 이미 셌고, 파티션을 지운 시점에 그 행들을 지운 것으로 센다.
+	void partitionDropped(String partition) {
+		deletedRows = archivedRows;
+		List<String> dropped = new ArrayList<>(droppedPartitions);
+		dropped.add(partition);
+		droppedPartitions = List.copyOf(dropped);
+	}
+
+	void finish(Status status, String error, LocalDateTime finishedAt) {
+		this.error = error;
+		this.finishedAt = finishedAt;
+		this.status = status;
+	}
+}
@@ -0,0 +1,299 @@
+package app.global.retention;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.global.retention.AiHistoryArchiveRun.Status;
+import app.global.retention.AiHistoryArchiveRun.Trigger;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 보관 기간(max-age)이 지난 p_ai_history 행을 오래된 순서로 batch-size 씩 읽어 gzip JSONL 파일에 쓰고 지운다.
+// - 배치를 파일에 쓰고 fsync 한 뒤에만 DB 에서 지우므로, 중간에 실패해도 지워진 행은 모두 파일에 남아 있다.
+//   (쓰고 지우지 못한 배치는 다음 실행에서 다시 아카이브되므로 파일을 읽을 때 ai_request_id 로 중복을 제거한다)
+// - 실행은 클러스터 전체에서 한 번에 하나만(AiHistoryArchiveLock), 스케줄러 스레드를 막지 않도록 전용 스레드에서 한다.
+// - 파티션 테이블이면 행을 지우지 않고, 보관 기간이 완전히 지난 달을 파티션째 내보낸 뒤 DETACH 하고 DROP 한다.
+//   (그 달이 끝나기 전까지는 보관 기간이 지난 행도 남는다)
+@Slf4j
+@Component
+public class AiHistoryArchiver implements DisposableBean {
+
+	private static final String SELECT_EXPIRED = """
+		select * from p_ai_history
+		where created_at < ?
+		order by created_at, ai_request_id
+		limit ?
+		""";
+	private static final String SELECT_PARTITION_FIRST = """
+		select * from %s
+		order by created_at, ai_request_id
+		limit ?
+		""";
+	private static final String SELECT_PARTITION_NEXT = """
+		select * from %s
+		where (created_at, ai_request_id) > (?, ?)
+		order by created_at, ai_request_id
+		limit ?
+		""";
+	private static final String DELETE_ARCHIVED = """
+		delete from p_ai_history
+		where created_at < ? and ai_request_id = any(?)
+		""";
+	private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_RECENT_RUNS = 20;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AiHistoryPartitions partitions;
+	private final AiHistoryArchiveLock lock;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final Duration maxAge;
+	private final int batchSize;
+	private final Path archiveDirectory;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+		Thread.ofPlatform().name("ai-history-archiver").daemon().factory());
+	private final AtomicReference<AiHistoryArchiveRun> current = new AtomicReference<>();
+	private final Deque<AiHistoryArchiveRun> recentRuns = new ArrayDeque<>();
+	private final Counter archivedRows;
+
+	private volatile boolean stopping;
+
+	public AiHistoryArchiver(JdbcTemplate jdbcTemplate, AiHistoryPartitions partitions, AiHistoryArchiveLock lock,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry,
+		@Value("${ai.history.retention.enabled:true}") boolean enabled,
+		@Value("${ai.history.retention.max-age:P180D}") Duration maxAge,
+		@Value("${ai.history.retention.batch-size:1000}") int batchSize,
+		@Value("${ai.history.retention.archive-dir:data/ai-history-archive}") Path archiveDirectory) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.partitions = partitions;
+		this.lock = lock;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.maxAge = maxAge;
+		this.batchSize = batchSize;
+		this.archiveDirectory = archiveDirectory;
+
+		this.archivedRows = Counter.builder("ai.history.archive.rows")
+			.register(meterRegistry);
+		Gauge.builder("ai.history.archive.running", current, run -> run.get() != null ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	@Scheduled(cron = "${ai.history.retention.cron:0 30 3 * * *}")
+	public void archiveExpired() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			start(Trigger.SCHEDULED);
+		} catch (GeneralException e) {
+			log.info("Skipped scheduled ai history archive: a run is already in progress on this or another instance");
+		}
+	}
+
+	public AiHistoryArchiveRun start(Trigger trigger) {
+		LocalDateTime now = LocalDateTime.now();
+		AiHistoryArchiveRun run = new AiHistoryArchiveRun(UUID.randomUUID(), trigger, now.minus(maxAge), now);
+		if (stopping || !current.compareAndSet(null, run)) {
+			throw new GeneralException(AiErrorStatus.AI_ARCHIVE_IN_PROGRESS);
+		}
+		// 다른 인스턴스가 실행 중이면 관리자 요청에도 같은 409 로 알린다.
+		Optional<AiHistoryArchiveLock.Lease> lease;
+		try {
+			lease = lock.tryAcquire();
+		} catch (RuntimeException e) {
+			current.set(null);
+			throw e;
+		}
+		if (lease.isEmpty()) {
+			current.set(null);
+			throw new GeneralException(AiErrorStatus.AI_ARCHIVE_IN_PROGRESS);
+		}
+		remember(run);
+		executor.execute(() -> execute(run, lease.get()));
+		return run;
+	}
+
+	public Optional<AiHistoryArchiveRun> findRun(UUID runId) {
+		synchronized (recentRuns) {
+			return recentRuns.stream().filter(run -> run.getRunId().equals(runId)).findFirst();
+		}
+	}
+
+	public List<AiHistoryArchiveRun> recentRuns() {
+		synchronized (recentRuns) {
+			return List.copyOf(recentRuns);
+		}
+	}
+
+	private void remember(AiHistoryArchiveRun run) {
+		synchronized (recentRuns) {
+			recentRuns.addFirst(run);
+			while (recentRuns.size() > MAX_RECENT_RUNS) {
+				recentRuns.removeLast();
+			}
+		}
+	}
+
+	private void execute(AiHistoryArchiveRun run, AiHistoryArchiveLock.Lease lease) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try (lease) {
+			archive(run);
+			run.finish(stopping ? Status.CANCELLED : Status.COMPLETED, null, LocalDateTime.now());
+			log.info("Archived {} ai history rows older than {} to {}", run.getArchivedRows(), run.getCutoff(),
+				run.getArchiveFile());
+		} catch (Exception e) {
+			run.finish(Status.FAILED, e.getMessage(), LocalDateTime.now());
+			log.error("Failed to archive ai history rows older than {} ({} rows archived before the failure)",
+				run.getCutoff(), run.getArchivedRows(), e);
+		} finally {
+			sample.stop(meterRegistry.timer("ai.history.archive.run", "status", run.getStatus().name()));
+			current.set(null);
+		}
+	}
+
+	private void archive(AiHistoryArchiveRun run) throws IOException {
+		Files.createDirectories(archiveDirectory);
+		String fileName = "p_ai_history-" + run.getStartedAt().format(FILE_TIME) + "-"
+			+ run.getRunId().toString().substring(0, 8) + ".jsonl.gz";
+		Path archiveFile = archiveDirectory.resolve(fileName);
+		Path partialFile = archiveDirectory.resolve(fileName + ".partial");
+		Timestamp cutoff = Timestamp.valueOf(run.getCutoff());
+
+		// 실패하더라도 이미 DB 에서 지운 배치가 들어 있으므로 스트림을 닫아(gzip 마무리) 파일을 남긴다.
+		try (FileOutputStream file = new FileOutputStream(partialFile.toFile());
+			 Writer writer = new OutputStreamWriter(
+				 new GZIPOutputStream(new BufferedOutputStream(file, BUFFER_SIZE), BUFFER_SIZE, true),
+				 StandardCharsets.UTF_8)) {
+			if (partitions.isPartitioned()) {
+				for (String partition : partitions.expired(run.getCutoff())) {
+					if (!exportPartition(partition, run, file, writer)) {
+						break;
+					}
+					partitions.detachAndDrop(partition);
+					run.partitionDropped(partition);
+				}
+				return;
+			}
+			while (!stopping) {
+				List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_EXPIRED, cutoff, batchSize);
+				if (rows.isEmpty()) {
+					break;
+				}
+				List<UUID> ids = writeBatch(rows, file, writer);
+				int deleted = delete(cutoff, ids);
+				run.batchArchived(rows.size(), deleted, file.getChannel().size());
+				archivedRows.increment(rows.size());
+				if (rows.size() < batchSize) {
+					break;
+				}
+			}
+		} finally {
+			if (run.getArchivedRows() > 0) {
+				Files.move(partialFile, archiveFile, StandardCopyOption.ATOMIC_MOVE);
+				run.archivedTo(archiveFile, Files.size(archiveFile));
+			} else {
+				Files.deleteIfExists(partialFile);
+			}
+		}
+	}
+
+	// 파티션의 모든 행을 (created_at, ai_request_id) 키셋으로 나눠 내보낸다. 중간에 멈추면 false 를 돌려주고 파티션은 남긴다.
+	private boolean exportPartition(String partition, AiHistoryArchiveRun run, FileOutputStream file, Writer writer)
+		throws IOException {
+		Object lastCreatedAt = null;
+		Object lastId = null;
+		while (!stopping) {
+			List<Map<String, Object>> rows = lastCreatedAt == null
+				? jdbcTemplate.queryForList(SELECT_PARTITION_FIRST.formatted(partition), batchSize)
+				: jdbcTemplate.queryForList(SELECT_PARTITION_NEXT.formatted(partition), lastCreatedAt, lastId, batchSize);
+			if (rows.isEmpty()) {
+				return true;
+			}
+			Map<String, Object> last = rows.get(rows.size() - 1);
+			lastCreatedAt = last.get("created_at");
+			lastId = last.get("ai_request_id");
+			writeBatch(rows, file, writer);
+			run.batchArchived(rows.size(), 0, file.getChannel().size());
+			archivedRows.increment(rows.size());
+			if (rows.size() < batchSize) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// sync flush 로 지금까지의 압축 블록을 내보내고 디스크에 반영한 뒤에야 DB 에서 지운다.
+	private List<UUID> writeBatch(List<Map<String, Object>> rows, FileOutputStream file, Writer writer)
+		throws IOException {
+		List<UUID> ids = new ArrayList<>(rows.size());
+		for (Map<String, Object> row : rows) {
+			ids.add((UUID)row.get("ai_request_id"));
+			row.replaceAll((column, value) -> value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : value);
+			writer.write(objectMapper.writeValueAsString(row));
+			writer.write('\n');
+		}
+		writer.flush();
+		file.getFD().sync();
+		return ids;
+	}
+
+	private int delete(Timestamp cutoff, List<UUID> ids) {
+		return jdbcTemplate.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(DELETE_ARCHIVED);
+			statement.setTimestamp(1, cutoff);
+			statement.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+			return statement;
+		});
+	}
+
+	// 진행 중인 실행은 현재 배치를 마치고 멈춘다. 지우지 못한 행은 다음 실행에서 다시 아카이브된다.
+	@Override
+	public void destroy() throws InterruptedException {
+		stopping = true;
+		executor.shutdown();
+		if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+			log.warn("Ai history archive did not stop within 30s");
+		}
+	}
+}
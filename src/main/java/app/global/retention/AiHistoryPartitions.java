@@ -0,0 +1,92 @@
+package app.global.retention;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// p_ai_history 가 월 단위 파티션 테이블일 때(db/p_ai_history_partitioning.sql)만 동작한다.
+// 기본 파티션에 행이 쌓이면 그 달 파티션을 만들 수 없으므로 months-ahead 만큼 미리 만든다.
+// 보관 기간이 지난 달은 행 단위로 지우지 않고 파티션째 떼어내 지운다. (AiHistoryArchiver)
+@Slf4j
+@Component
+public class AiHistoryPartitions {
+
+	private static final String IS_PARTITIONED = """
+		select exists (
+			select 1 from pg_partitioned_table p
+			join pg_class c on c.oid = p.partrelid
+			where c.relname = 'p_ai_history' and pg_table_is_visible(c.oid))
+		""";
+	private static final String LIST_PARTITIONS = """
+		select c.relname from pg_inherits i
+		join pg_class c on c.oid = i.inhrelid
+		where i.inhparent = 'p_ai_history'::regclass
+		""";
+	private static final Pattern MONTHLY_PARTITION = Pattern.compile("p_ai_history_(\\d{6})");
+	private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int monthsAhead;
+
+	public AiHistoryPartitions(JdbcTemplate jdbcTemplate,
+		@Value("${ai.history.partition.months-ahead:3}") int monthsAhead) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.monthsAhead = monthsAhead;
+	}
+
+	public boolean isPartitioned() {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class));
+	}
+
+	@Scheduled(fixedDelayString = "${ai.history.partition.check-interval:PT6H}")
+	public void ensureUpcoming() {
+		if (!isPartitioned()) {
+			return;
+		}
+		YearMonth current = YearMonth.now();
+		for (int i = 0; i <= monthsAhead; i++) {
+			jdbcTemplate.queryForObject("select ai_history_ensure_partition(?)", String.class,
+				current.plusMonths(i).atDay(1));
+		}
+	}
+
+	// cutoff 이전에 완전히 끝난 달의 파티션을 오래된 순서로 돌려준다. (아카이브가 통째로 내보낸 뒤 떼어내 지운다)
+	public List<String> expired(LocalDateTime cutoff) {
+		List<String> expired = new ArrayList<>();
+		for (String partition : jdbcTemplate.queryForList(LIST_PARTITIONS, String.class)) {
+			Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+			if (!matcher.matches()) {
+				continue;
+			}
+			LocalDate end = YearMonth.parse(matcher.group(1), PARTITION_MONTH).plusMonths(1).atDay(1);
+			if (!end.atStartOfDay().isAfter(cutoff)) {
+				expired.add(partition);
+			}
+		}
+		expired.sort(null);
+		return expired;
+	}
+
+	// 기본 파티션이 있으면 DETACH ... CONCURRENTLY 를 쓸 수 없어 짧게 부모 테이블 락을 잡는 일반 DETACH 를 쓴다.
+	// 떼어낸 뒤 DROP 하므로 DELETE 와 VACUUM 없이 공간을 돌려받는다.
+	public void detachAndDrop(String partition) {
+		if (!MONTHLY_PARTITION.matcher(partition).matches()) {
+			throw new IllegalArgumentException("Not a monthly ai history partition: " + partition);
+		}
+		jdbcTemplate.execute("alter table p_ai_history detach partition " + partition);
+		jdbcTemplate.execute("drop table " + partition);
+		log.info("Detached and dropped archived ai history partition {}", partition);
+	}
+}
@@ -0,0 +1,124 @@
+package app.global.routing;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.global.ratelimit.ConcurrencyLimitingChatModel;
+import app.global.resilience.LlmCircuitBreaker;
+import app.model.entity.enums.ReqType;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 요청 종류와 현재 부하(동시 OpenAI 호출 사용률)로 사용할 모델을 고른다.
+// OpenAI 를 쓸 수 없거나(서킷 open, 시간 초과, 동시 호출 제한, 연결 오류) 사용률이 한도를 넘으면 로컬 템플릿 생성으로 대체한다.
+// 대체 결과는 Result.isFallback() 으로 구분해 기록과 응답에 표시한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModelRouter {
+
+	public static final String FALLBACK_MODEL = "local-template";
+
+	private final ModelRoutingProperties properties;
+	private final ConcurrencyLimitingChatModel chatModel;
+	private final LlmCircuitBreaker circuitBreaker;
+	private final MeterRegistry meterRegistry;
+
+	public String primaryModel(ReqType reqType) {
+		return reqType == null ? properties.getDefaultModel()
+			: properties.getModels().getOrDefault(reqType, properties.getDefaultModel());
+	}
+
+	public <T> Result<T> call(ReqType reqType, Function<String, T> upstream, Supplier<T> fallback) {
+		String model = primaryModel(reqType);
+		String reason = "normal";
+		double utilization = chatModel.utilization();
+		if (properties.isFallbackEnabled() && circuitBreaker.getState() == LlmCircuitBreaker.State.OPEN) {
+			return fallback(reqType, "circuit_open", fallback);
+		}
+		if (properties.isFallbackEnabled() && utilization >= properties.getFallbackUtilization()) {
+			return fallback(reqType, "overloaded", fallback);
+		}
+		if (reqType != null && utilization >= properties.getHighLoadUtilization()
+			&& properties.getHighLoadModels().containsKey(reqType)) {
+			model = properties.getHighLoadModels().get(reqType);
+			reason = "high_load";
+		}
+
+		routed(reqType, model, reason);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			T result = upstream.apply(model);
+			sample.stop(latency(model, "success"));
+			return new Result<>(model, result);
+		} catch (RuntimeException e) {
+			sample.stop(latency(model, "error"));
+			if (!properties.isFallbackEnabled() || !isUnavailable(e)) {
+				throw e;
+			}
+			log.warn("Upstream model {} unavailable, falling back to local template: {}", model, e.getMessage());
+			return fallback(reqType, "upstream_error", fallback);
+		}
+	}
+
+	private <T> Result<T> fallback(ReqType reqType, String reason, Supplier<T> fallback) {
+		routed(reqType, FALLBACK_MODEL, reason);
+		return new Result<>(FALLBACK_MODEL, fallback.get());
+	}
+
+	private void routed(ReqType reqType, String model, String reason) {
+		Counter.builder("ai.model.route")
+			.tag("req.type", reqType == null ? "BATCH" : reqType.name())
+			.tag("model", model)
+			.tag("reason", reason)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private Timer latency(String model, String outcome) {
+		return Timer.builder("ai.model.latency")
+			.tag("model", model)
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	// OpenAI 에 닿지 못했거나 제때 응답을 받지 못한 경우(연결 오류, 시간 초과, 서킷 open, 동시 호출 제한, 5xx/429)만 대체한다.
+	// 응답 파싱 오류나 코드 오류까지 대체하면 실패가 로컬 템플릿 성공으로 기록되어 드러나지 않는다.
+	private static boolean isUnavailable(RuntimeException e) {
+		if (e instanceof GeneralException generalException) {
+			return generalException.getCode() == AiErrorStatus.AI_CIRCUIT_OPEN
+				|| generalException.getCode() == AiErrorStatus.AI_GENERATION_TIMEOUT
+				|| generalException.getCode() == AiErrorStatus.AI_CONCURRENCY_LIMITED;
+		}
+		if (e instanceof TransientAiException || e instanceof ResourceAccessException) {
+			return true;
+		}
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketException || cause instanceof UnknownHostException
+				|| cause instanceof InterruptedIOException || cause instanceof TimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public record Result<T>(String model, T result) {
+
+		public boolean isFallback() {
+			return FALLBACK_MODEL.equals(model);
+		}
+	}
+}
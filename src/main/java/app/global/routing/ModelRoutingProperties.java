@@ -0,0 +1,31 @@
+package app.global.routing;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import app.model.entity.enums.ReqType;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.routing")
+public class ModelRoutingProperties {
+
+	private String defaultModel = "gpt-4.1-mini";
+
+	// 요청 종류별 기본 모델. 없으면 defaultModel 을 사용한다.
+	private Map<ReqType, String> models = new EnumMap<>(ReqType.class);
+
+	// 동시 호출 사용률이 highLoadUtilization 이상일 때 사용할 (더 빠르거나 저렴한) 모델
+	private Map<ReqType, String> highLoadModels = new EnumMap<>(ReqType.class);
+
+	private double highLoadUtilization = 0.75;
+
+	// 동시 호출 사용률이 이 값 이상이거나 서킷이 열려 있으면 OpenAI 대신 로컬 템플릿으로 생성한다.
+	private double fallbackUtilization = 1.0;
+
+	private boolean fallbackEnabled = true;
+}
@@ -0,0 +1,66 @@
+package app.global.tool;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+
+public class CachingToolCallback implements ToolCallback {
+
+	private final ToolCallback delegate;
+	private final Cache<String, String> cache;
+	private final ObjectMapper keyMapper;
+
+	public CachingToolCallback(ToolCallback delegate, Cache<String, String> cache, ObjectMapper keyMapper) {
+		this.delegate = delegate;
+		this.cache = cache;
+		this.keyMapper = keyMapper;
+	}
+
+	@Override
+	public ToolDefinition getToolDefinition() {
+		return delegate.getToolDefinition();
+	}
+
+	@Override
+	public ToolMetadata getToolMetadata() {
+		return delegate.getToolMetadata();
+	}
+
+	@Override
+	public String call(String toolInput) {
+		return call(toolInput, null);
+	}
+
+	// cache.get(key, loader) 는 원격 호출 동안 맵 버킷 잠금을 잡고 있으므로 조회와 저장을 분리한다.
+	@Override
+	public String call(String toolInput, ToolContext toolContext) {
+		String key = keyOf(toolInput);
+		String cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		String result = toolContext != null ? delegate.call(toolInput, toolContext) : delegate.call(toolInput);
+		if (result != null) {
+			cache.put(key, result);
+		}
+		return result;
+	}
+
+	// {"b":1,"a":2} 와 {"a":2, "b":1} 이 같은 키가 되도록 Map 으로 읽어 키 순서대로 다시 쓴다.
+	// JSON 이 아니면 앞뒤 공백만 정리한 원문을 키로 쓴다.
+	private String keyOf(String toolInput) {
+		if (toolInput == null || toolInput.isBlank()) {
+			return "";
+		}
+		try {
+			return keyMapper.writeValueAsString(keyMapper.readValue(toolInput, Object.class));
+		} catch (JsonProcessingException e) {
+			return toolInput.strip();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package app.global.tool;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class CachingToolCallbackProvider implements ToolCallbackProvider {
+
+	private final ToolCallbackProvider delegate;
+	private final McpToolProperties properties;
+	private final ObjectMapper keyMapper;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Cache<String, String>> caches = new ConcurrentHashMap<>();
+
+	public CachingToolCallbackProvider(ToolCallbackProvider delegate, McpToolProperties properties, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.properties = properties;
+		// 캐시 키는 필드 순서와 공백에 상관없이 같은 입력이면 같아야 하므로 키를 정렬해 직렬화한다.
+		this.keyMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public ToolCallback[] getToolCallbacks() {
+		return Arrays.stream(delegate.getToolCallbacks())
+			.map(this::decorate)
+			.toArray(ToolCallback[]::new);
+	}
+
+	private ToolCallback decorate(ToolCallback toolCallback) {
+		String toolName = toolCallback.getToolDefinition().name();
+		return properties.readOnlyTtl(toolName)
+			.<ToolCallback>map(ttl -> new CachingToolCallback(toolCallback, cacheFor(toolName, ttl), keyMapper))
+			.orElse(toolCallback);
+	}
+
+	private Cache<String, String> cacheFor(String toolName, Duration ttl) {
+		return caches.computeIfAbsent(toolName, name -> {
+			Cache<String, String> cache = Caffeine.newBuilder()
+				.maximumSize(properties.getCacheMaxSize())
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+			CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.mcp.tool." + name);
+			return cache;
+		});
+	}
+}
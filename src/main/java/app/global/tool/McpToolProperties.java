@@ -0,0 +1,44 @@
+package app.global.tool;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.mcp.tools")
+public class McpToolProperties {
+
+	// 읽기 전용 도구 이름 -> 결과 캐시 TTL. 여기에 없는 도구(장바구니 담기, 주문 생성 등)는 변경 도구로 취급한다.
+	private Map<String, Duration> readOnly = new LinkedHashMap<>();
+
+	private long cacheMaxSize = 10_000;
+
+	// 한 턴 안에서 읽기 전용 도구를 동시에 실행할 최대 스레드 수
+	private int parallelism = 8;
+
+	// 변경 도구 실행을 대화별로 직렬화하는 잠금 스트라이프 수
+	private int lockStripes = 64;
+
+	public Optional<Duration> readOnlyTtl(String toolName) {
+		return readOnly.entrySet().stream()
+			.filter(entry -> matches(toolName, entry.getKey()))
+			.map(Map.Entry::getValue)
+			.findFirst();
+	}
+
+	public boolean isReadOnly(String toolName) {
+		return readOnlyTtl(toolName).isPresent();
+	}
+
+	// MCP 클라이언트가 도구 이름 앞에 클라이언트 이름 접두사를 붙이는 경우도 허용한다.
+	private static boolean matches(String toolName, String configuredName) {
+		return toolName.equals(configuredName) || toolName.endsWith("_" + configuredName);
+	}
+}
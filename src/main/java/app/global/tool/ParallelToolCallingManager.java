@@ -0,0 +1,185 @@
+package app.global.tool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.model.tool.ToolExecutionResult;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.tool.execution.ToolExecutionExceptionProcessor;
+import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import app.global.metrics.LlmMetrics;
+
+// 한 턴에서 요청된 도구 호출 중 읽기 전용 도구는 동시에 실행하고, 변경 도구는 대화(사용자)별 잠금 아래 요청 순서대로 실행한다.
+// 도구 응답은 모델이 요청한 순서 그대로 반환한다.
+public class ParallelToolCallingManager implements ToolCallingManager, DisposableBean {
+
+	// toolContext 로 전달되는 대화 식별자. 도구에는 전달하지 않는다.
+	public static final String CONVERSATION_ID = "conversationId";
+
+	private final ToolCallingManager delegate;
+	private final ToolCallbackResolver toolCallbackResolver;
+	private final ToolExecutionExceptionProcessor toolExecutionExceptionProcessor;
+	private final McpToolProperties properties;
+	private final LlmMetrics llmMetrics;
+	private final ThreadPoolTaskExecutor executor;
+	private final ReentrantLock[] conversationLocks;
+
+	public ParallelToolCallingManager(ToolCallingManager delegate, ToolCallbackResolver toolCallbackResolver,
+		ToolExecutionExceptionProcessor toolExecutionExceptionProcessor, McpToolProperties properties,
+		LlmMetrics llmMetrics, boolean virtualThreads) {
+		this.delegate = delegate;
+		this.toolCallbackResolver = toolCallbackResolver;
+		this.toolExecutionExceptionProcessor = toolExecutionExceptionProcessor;
+		this.properties = properties;
+		this.llmMetrics = llmMetrics;
+
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setCorePoolSize(properties.getParallelism());
+		this.executor.setMaxPoolSize(properties.getParallelism());
+		this.executor.setQueueCapacity(properties.getParallelism() * 4);
+		this.executor.setThreadNamePrefix("ai-tool-");
+		this.executor.setVirtualThreads(virtualThreads);
+		this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		this.executor.initialize();
+
+		this.conversationLocks = new ReentrantLock[properties.getLockStripes()];
+		for (int i = 0; i < conversationLocks.length; i++) {
+			conversationLocks[i] = new ReentrantLock();
+		}
+	}
+
+	@Override
+	public List<ToolDefinition> resolveToolDefinitions(ToolCallingChatOptions chatOptions) {
+		return delegate.resolveToolDefinitions(chatOptions);
+	}
+
+	@Override
+	public ToolExecutionResult executeToolCalls(Prompt prompt, ChatResponse chatResponse) {
+		AssistantMessage assistantMessage = chatResponse.getResults().stream()
+			.map(Generation::getOutput)
+			.filter(output -> !CollectionUtils.isEmpty(output.getToolCalls()))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("No tool call requested by the chat model"));
+
+		List<ToolCallback> toolCallbacks = List.of();
+		Map<String, Object> toolContextMap = new HashMap<>();
+		if (prompt.getOptions() instanceof ToolCallingChatOptions options) {
+			toolCallbacks = options.getToolCallbacks();
+			if (!CollectionUtils.isEmpty(options.getToolContext())) {
+				toolContextMap.putAll(options.getToolContext());
+			}
+		}
+		Object conversationId = toolContextMap.remove(CONVERSATION_ID);
+		List<Message> conversationHistory = new ArrayList<>(prompt.copy().getInstructions());
+		conversationHistory.add(assistantMessage);
+		if (!toolContextMap.isEmpty()) {
+			toolContextMap.put(ToolContext.TOOL_CALL_HISTORY, List.copyOf(conversationHistory));
+		}
+		ToolContext toolContext = new ToolContext(toolContextMap);
+
+		llmMetrics.recordToolRound(assistantMessage.getToolCalls().size());
+		List<CompletableFuture<ToolResponseMessage.ToolResponse>> responses = new ArrayList<>();
+		boolean returnDirect = true;
+		for (AssistantMessage.ToolCall toolCall : assistantMessage.getToolCalls()) {
+			ToolCallback toolCallback = resolve(toolCallbacks, toolCall.name());
+			returnDirect &= toolCallback.getToolMetadata().returnDirect();
+			if (properties.isReadOnly(toolCall.name())) {
+				responses.add(CompletableFuture.supplyAsync(() -> execute(toolCallback, toolCall, toolContext), executor));
+			} else {
+				responses.add(CompletableFuture.completedFuture(executeSerialized(conversationId, toolCallback, toolCall, toolContext)));
+			}
+		}
+
+		List<ToolResponseMessage.ToolResponse> toolResponses = new ArrayList<>(responses.size());
+		for (CompletableFuture<ToolResponseMessage.ToolResponse> response : responses) {
+			toolResponses.add(join(response));
+		}
+		conversationHistory.add(new ToolResponseMessage(toolResponses, Map.of()));
+
+		return ToolExecutionResult.builder()
+			.conversationHistory(conversationHistory)
+			.returnDirect(returnDirect)
+			.build();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private ToolCallback resolve(List<ToolCallback> toolCallbacks, String toolName) {
+		ToolCallback toolCallback = toolCallbacks.stream()
+			.filter(callback -> toolName.equals(callback.getToolDefinition().name()))
+			.findFirst()
+			.orElseGet(() -> toolCallbackResolver.resolve(toolName));
+		if (toolCallback == null) {
+			throw new IllegalStateException("No ToolCallback found for tool name: " + toolName);
+		}
+		return toolCallback;
+	}
+
+	private ToolResponseMessage.ToolResponse executeSerialized(Object conversationId, ToolCallback toolCallback,
+		AssistantMessage.ToolCall toolCall, ToolContext toolContext) {
+		if (conversationId == null) {
+			return execute(toolCallback, toolCall, toolContext);
+		}
+		ReentrantLock lock = conversationLocks[Math.floorMod(conversationId.hashCode(), conversationLocks.length)];
+		lock.lock();
+		try {
+			return execute(toolCallback, toolCall, toolContext);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private ToolResponseMessage.ToolResponse execute(ToolCallback toolCallback, AssistantMessage.ToolCall toolCall,
+		ToolContext toolContext) {
+		String arguments = StringUtils.hasText(toolCall.arguments()) ? toolCall.arguments() : "{}";
+		String result;
+		long startedAt = System.nanoTime();
+		try {
+			result = toolCallback.call(arguments, toolContext);
+			llmMetrics.recordToolCall(toolCall.name(), "success", System.nanoTime() - startedAt);
+		} catch (ToolExecutionException e) {
+			llmMetrics.recordToolCall(toolCall.name(), "error", System.nanoTime() - startedAt);
+			result = toolExecutionExceptionProcessor.process(e);
+		} catch (RuntimeException e) {
+			llmMetrics.recordToolCall(toolCall.name(), "error", System.nanoTime() - startedAt);
+			throw e;
+		}
+		return new ToolResponseMessage.ToolResponse(toolCall.id(), toolCall.name(), result);
+	}
+
+	private static ToolResponseMessage.ToolResponse join(CompletableFuture<ToolResponseMessage.ToolResponse> response) {
+		try {
+			return response.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package app.global.tool;
+
+import java.util.function.Consumer;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import app.model.dto.response.ToolCallEvent;
+
+public class ProgressReportingToolCallback implements ToolCallback {
+
+	private final ToolCallback delegate;
+	private final Consumer<ToolCallEvent> listener;
+
+	public ProgressReportingToolCallback(ToolCallback delegate, Consumer<ToolCallEvent> listener) {
+		this.delegate = delegate;
+		this.listener = listener;
+	}
+
+	@Override
+	public ToolDefinition getToolDefinition() {
+		return delegate.getToolDefinition();
+	}
+
+	@Override
+	public ToolMetadata getToolMetadata() {
+		return delegate.getToolMetadata();
+	}
+
+	@Override
+	public String call(String toolInput) {
+		return call(toolInput, null);
+	}
+
+	@Override
+	public String call(String toolInput, ToolContext toolContext) {
+		String toolName = delegate.getToolDefinition().name();
+		long startedAt = System.nanoTime();
+		listener.accept(new ToolCallEvent(toolName, ToolCallEvent.Phase.STARTED, 0L));
+		try {
+			String result = toolContext != null ? delegate.call(toolInput, toolContext) : delegate.call(toolInput);
+			listener.accept(new ToolCallEvent(toolName, ToolCallEvent.Phase.COMPLETED, elapsedMillis(startedAt)));
+			return result;
+		} catch (RuntimeException e) {
+			listener.accept(new ToolCallEvent(toolName, ToolCallEvent.Phase.FAILED, elapsedMillis(startedAt)));
+			throw e;
+		}
+	}
+
+	private static long elapsedMillis(long startedAt) {
+		return (System.nanoTime() - startedAt) / 1_000_000;
+	}
+}
@@ -8,5 +8,5 @@ import org.springframework.stereotype.Repository;
 import app.model.entity.AiHistory;
 
 @Repository
-public interface AiHistoryRepository extends JpaRepository<AiHistory, UUID> {
+public interface AiHistoryRepository extends JpaRepository<AiHistory, UUID>, AiHistoryRepositoryCustom {
 }
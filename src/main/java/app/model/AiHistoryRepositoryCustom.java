@@ -0,0 +1,15 @@
+package app.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import app.model.dto.response.AiHistoryResponse;
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+
+public interface AiHistoryRepositoryCustom {
+
+	List<AiHistoryResponse> findHistories(Long userId, ReqType reqType, AiRequestStatus status,
+		LocalDateTime cursorCreatedAt, UUID cursorId, int limit);
+}
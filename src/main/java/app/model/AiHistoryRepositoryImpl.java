@@ -0,0 +1,58 @@
+package app.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import app.model.dto.response.AiHistoryResponse;
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class AiHistoryRepositoryImpl implements AiHistoryRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// (user_id, [req_type | status,] created_at desc, ai_request_id desc) 인덱스를 커서 위치부터 순서대로 읽도록
+	// 필터가 있을 때만 조건을 추가하고, 커서 조건에는 범위 시작점(created_at <= :cursorCreatedAt)을 함께 건다.
+	@Override
+	public List<AiHistoryResponse> findHistories(Long userId, ReqType reqType, AiRequestStatus status,
+		LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+		StringBuilder jpql = new StringBuilder("""
+			select new app.model.dto.response.AiHistoryResponse(
+				h.aiRequestId, h.storeName, h.menuName, h.reqType, h.status, h.generatedContent, h.cached, h.fallback,
+				h.createdAt)
+			from AiHistory h
+			where h.userId = :userId
+			""");
+		if (reqType != null) {
+			jpql.append(" and h.reqType = :reqType");
+		}
+		if (status != null) {
+			jpql.append(" and h.status = :status");
+		}
+		if (cursorCreatedAt != null) {
+			jpql.append(" and h.createdAt <= :cursorCreatedAt")
+				.append(" and (h.createdAt < :cursorCreatedAt or h.aiRequestId < :cursorId)");
+		}
+		jpql.append(" order by h.createdAt desc, h.aiRequestId desc");
+
+		TypedQuery<AiHistoryResponse> query = entityManager.createQuery(jpql.toString(), AiHistoryResponse.class)
+			.setParameter("userId", userId)
+			.setMaxResults(limit);
+		if (reqType != null) {
+			query.setParameter("reqType", reqType);
+		}
+		if (status != null) {
+			query.setParameter("status", status);
+		}
+		if (cursorCreatedAt != null) {
+			query.setParameter("cursorCreatedAt", cursorCreatedAt)
+				.setParameter("cursorId", cursorId);
+		}
+		return query.getResultList();
+	}
+}
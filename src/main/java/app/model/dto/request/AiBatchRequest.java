@@ -0,0 +1,28 @@
+package app.model.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class AiBatchRequest {
+	@NotEmpty(message = "요청 목록은 비어 있을 수 없습니다.")
+	@Size(max = 100, message = "한 번에 최대 100개까지 요청할 수 있습니다.")
+	// 항목은 여기서 검증하지 않는다. 잘못된 항목은 AiService 가 FAILED 로 돌려주고 나머지는 생성한다.
+	private List<AiRequest> items;
+
+	public AiBatchRequest() {
+	}
+
+	public AiBatchRequest(List<AiRequest> items) {
+		this.items = items;
+	}
+
+	public List<AiRequest> getItems() {
+		return items;
+	}
+
+	public void setItems(List<AiRequest> items) {
+		this.items = items;
+	}
+}
@@ -17,6 +17,8 @@ public class AiRequest {
 	@NotBlank(message = "프롬프트 텍스트는 필수입니다.")
 	private String promptText;
 
+	private boolean bypassCache;
+
 	public AiRequest() {
 	}
 
@@ -58,4 +60,12 @@ public class AiRequest {
 	public void setPromptText(String promptText) {
 		this.promptText = promptText;
 	}
+
+	public boolean isBypassCache() {
+		return bypassCache;
+	}
+
+	public void setBypassCache(boolean bypassCache) {
+		this.bypassCache = bypassCache;
+	}
 }
\ No newline at end of file
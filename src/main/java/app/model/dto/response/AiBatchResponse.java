@@ -0,0 +1,18 @@
+package app.model.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiBatchResponse {
+	private int successCount;
+	private int failureCount;
+	private List<AiBatchItemResponse> results;
+}
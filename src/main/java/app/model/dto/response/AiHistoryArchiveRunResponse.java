@@ -0,0 +1,48 @@
+package app.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import app.global.retention.AiHistoryArchiveRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiHistoryArchiveRunResponse {
+	private String runId;
+	private AiHistoryArchiveRun.Trigger trigger;
+	private AiHistoryArchiveRun.Status status;
+	private LocalDateTime cutoff;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long archivedRows;
+	private long deletedRows;
+	private int batches;
+	private long archiveBytes;
+	private String archiveFile;
+	private List<String> droppedPartitions;
+	private String error;
+
+	public static AiHistoryArchiveRunResponse from(AiHistoryArchiveRun run) {
+		return AiHistoryArchiveRunResponse.builder()
+			.runId(run.getRunId().toString())
+			.trigger(run.getTrigger())
+			.status(run.getStatus())
+			.cutoff(run.getCutoff())
+			.startedAt(run.getStartedAt())
+			.finishedAt(run.getFinishedAt())
+			.archivedRows(run.getArchivedRows())
+			.deletedRows(run.getDeletedRows())
+			.batches(run.getBatches())
+			.archiveBytes(run.getArchiveBytes())
+			.archiveFile(run.getArchiveFile() != null ? run.getArchiveFile().toString() : null)
+			.droppedPartitions(run.getDroppedPartitions())
+			.error(run.getError())
+			.build();
+	}
+}
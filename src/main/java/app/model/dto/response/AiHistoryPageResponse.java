@@ -0,0 +1,20 @@
+package app.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiHistoryPageResponse {
+	private List<AiHistoryResponse> content;
+	private boolean hasNext;
+	private LocalDateTime nextCursorCreatedAt;
+	private String nextCursorId;
+}
@@ -0,0 +1,37 @@
+package app.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AiHistoryResponse {
+	private String requestId;
+	private String storeName;
+	private String menuName;
+	private ReqType reqType;
+	private AiRequestStatus status;
+	private String generatedContent;
+	private boolean cached;
+	private boolean fallback;
+	private LocalDateTime createdAt;
+
+	// JPQL 생성자 표현식(select new ...)으로 엔티티 없이 바로 조회한다.
+	public AiHistoryResponse(UUID requestId, String storeName, String menuName, ReqType reqType,
+		AiRequestStatus status, String generatedContent, boolean cached, boolean fallback, LocalDateTime createdAt) {
+		this.requestId = requestId.toString();
+		this.storeName = storeName;
+		this.menuName = menuName;
+		this.reqType = reqType;
+		this.status = status;
+		this.generatedContent = status == AiRequestStatus.SUCCESS ? generatedContent : null;
+		this.cached = cached;
+		this.fallback = fallback;
+		this.createdAt = createdAt;
+	}
+}
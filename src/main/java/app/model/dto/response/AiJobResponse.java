@@ -0,0 +1,18 @@
+package app.model.dto.response;
+
+import app.model.entity.enums.AiRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiJobResponse {
+	private String requestId;
+	private AiRequestStatus status;
+	private String generatedContent;
+	private boolean fallback;
+}
@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class AiResponse {
 	private String requestId;
 	private String generatedContent;
+	// OpenAI 를 쓸 수 없어 로컬 템플릿으로 생성한 결과인지 여부
+	private boolean fallback;
 }
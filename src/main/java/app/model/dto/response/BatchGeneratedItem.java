@@ -0,0 +1,14 @@
+package app.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 배치 프롬프트에 대한 LLM 구조화 출력(JSON) 항목
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGeneratedItem {
+	private int index;
+	private String content;
+}
@@ -0,0 +1,24 @@
+package app.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅 스트리밍 중 MCP 도구 호출 진행 이벤트")
+public class ToolCallEvent {
+    private String toolName;
+    private Phase phase;
+    private long elapsedMillis;
+
+    public enum Phase {
+        STARTED,
+        COMPLETED,
+        FAILED
+    }
+}
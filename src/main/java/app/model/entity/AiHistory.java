@@ -3,14 +3,15 @@ package app.model.entity;
 import java.util.UUID;
 
 import app.commonUtil.entity.BaseEntity;
+import app.global.jpa.TimeOrderedUuid;
 import app.model.entity.enums.AiRequestStatus;
 import app.model.entity.enums.ReqType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_ai_history")
+@Table(name = "p_ai_history", indexes = {
+	@Index(name = "idx_ai_history_user_created", columnList = "user_id, created_at desc, ai_request_id desc"),
+	@Index(name = "idx_ai_history_user_type_created", columnList = "user_id, req_type, created_at desc, ai_request_id desc"),
+	@Index(name = "idx_ai_history_user_status_created", columnList = "user_id, status, created_at desc, ai_request_id desc"),
+	@Index(name = "idx_ai_history_created", columnList = "created_at, ai_request_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,7 +36,7 @@ public class AiHistory extends BaseEntity {
 	private Long userId;
 
 	@Id
-	@GeneratedValue
+	@TimeOrderedUuid
 	private UUID aiRequestId;
 
 	@Column(nullable = false)
@@ -52,8 +58,27 @@ public class AiHistory extends BaseEntity {
 	@Enumerated(EnumType.STRING)
 	private AiRequestStatus status;
 
+	// ddl-auto: none 이므로 db/p_ai_history.sql 의 ALTER 를 이 컬럼을 쓰는 빌드보다 먼저 적용해야 한다.
+	@Column(nullable = false, columnDefinition = "boolean not null default false")
+	private boolean cached; // 응답 캐시에서 제공된 결과 여부
+
+	@Column(nullable = false, columnDefinition = "boolean not null default false")
+	private boolean fallback; // OpenAI 대신 로컬 템플릿으로 생성한 결과 여부
+
 	public void updateGeneratedContent(String generatedContent, AiRequestStatus status) {
 		this.generatedContent = generatedContent;
 		this.status = status;
 	}
+
+	public void updateFallbackContent(String generatedContent) {
+		this.generatedContent = generatedContent;
+		this.status = AiRequestStatus.SUCCESS;
+		this.fallback = true;
+	}
+
+	public void updateCachedContent(String generatedContent) {
+		this.generatedContent = generatedContent;
+		this.status = AiRequestStatus.SUCCESS;
+		this.cached = true;
+	}
 }
@@ -12,7 +12,17 @@ import lombok.Getter;
 public enum AiErrorStatus implements BaseCode {
 
 	AI_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI001", "AI 콘텐츠 생성에 실패했습니다."),
-	AI_INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "AI002", "잘못된 입력값입니다");
+	AI_INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "AI002", "잘못된 입력값입니다"),
+	AI_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "AI003", "AI 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+	AI_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "AI004", "AI 요청 내역을 찾을 수 없습니다."),
+	AI_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "AI005", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+	AI_CONCURRENCY_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "AI006", "현재 AI 요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	AI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "AI007", "AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."),
+	AI_GENERATION_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI008", "AI 응답 시간이 초과되었습니다."),
+	AI_ARCHIVE_IN_PROGRESS(HttpStatus.CONFLICT, "AI009", "AI 요청 내역 아카이브가 이미 진행 중입니다."),
+	AI_ARCHIVE_RUN_NOT_FOUND(HttpStatus.NOT_FOUND, "AI010", "AI 요청 내역 아카이브 실행을 찾을 수 없습니다."),
+	AI_IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "AI011", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+	AI_CHAT_COMPACTION_NOT_FOUND(HttpStatus.NOT_FOUND, "AI012", "대화 메모리 압축 기록을 찾을 수 없습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
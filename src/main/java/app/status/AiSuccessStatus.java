@@ -12,6 +12,13 @@ import lombok.Getter;
 public enum AiSuccessStatus implements BaseCode {
 
 	AI_RESPONDED(HttpStatus.CREATED, "AI201", "AI 응답 생성이 성공했습니다."),
+	AI_JOB_ACCEPTED(HttpStatus.ACCEPTED, "AI202", "AI 응답 생성 요청이 접수되었습니다."),
+	AI_JOB_FOUND(HttpStatus.OK, "AI200", "AI 응답 생성 상태 조회에 성공했습니다."),
+	AI_HISTORY_FOUND(HttpStatus.OK, "AI203", "AI 요청 내역 조회에 성공했습니다."),
+	AI_ARCHIVE_STARTED(HttpStatus.ACCEPTED, "AI204", "AI 요청 내역 아카이브를 시작했습니다."),
+	AI_ARCHIVE_FOUND(HttpStatus.OK, "AI205", "AI 요청 내역 아카이브 실행 조회에 성공했습니다."),
+	AI_CHAT_DIAGNOSTICS_FOUND(HttpStatus.OK, "AI206", "대화 진단 정보 조회에 성공했습니다."),
+	AI_CHAT_DIAGNOSTICS_UPDATED(HttpStatus.OK, "AI207", "대화 추적 설정을 변경했습니다."),
 	MCP_CLIENT_SUCCESS(HttpStatus.OK, "MCP200", "MCP CLIENT의 응답 생성이 성공했습니다.");
 
 	private final HttpStatus httpStatus;
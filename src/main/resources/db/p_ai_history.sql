@@ -0,0 +1,24 @@
+-- p_ai_history 스키마 변경 사항 (spring.jpa.hibernate.ddl-auto: none 이므로 배포 전에 수동 적용)
+
+-- 응답 캐시 적중 여부. AiHistory.cached 가 NOT NULL 로 매핑되어 있으므로 cached 를 쓰는 빌드를 배포하기 전에 가장 먼저 적용한다.
+-- 기존 행은 DEFAULT false 로 채워지며, 단독으로 여러 번 실행해도 안전하다.
+ALTER TABLE p_ai_history ADD COLUMN IF NOT EXISTS cached boolean NOT NULL DEFAULT false;
+
+-- OpenAI 대신 로컬 템플릿으로 생성한 결과 여부. AiHistory.fallback 도 NOT NULL 이므로 이 컬럼을 쓰는 빌드보다 먼저 적용한다.
+ALTER TABLE p_ai_history ADD COLUMN IF NOT EXISTS fallback boolean NOT NULL DEFAULT false;
+
+-- GET /ai/history keyset 페이지네이션용 인덱스
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_history_user_created
+    ON p_ai_history (user_id, created_at DESC, ai_request_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_history_user_type_created
+    ON p_ai_history (user_id, req_type, created_at DESC, ai_request_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_history_user_status_created
+    ON p_ai_history (user_id, status, created_at DESC, ai_request_id DESC);
+
+-- AiHistoryOutbox upsert 의 충돌 대상. 파티션 테이블로 옮기기 전에도 같은 SQL 을 쓸 수 있도록 만든다.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_ai_history_request_created
+    ON p_ai_history (ai_request_id, created_at);
+
+-- 보관 기간이 지난 행을 오래된 순서로 배치 아카이브하기 위한 인덱스
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_ai_history_created
+    ON p_ai_history (created_at, ai_request_id);
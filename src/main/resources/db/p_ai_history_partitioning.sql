@@ -0,0 +1,61 @@
+-- p_ai_history 를 created_at 기준 월 단위 범위 파티션 테이블로 전환한다. (p_ai_history.sql 적용 후, 점검 시간에 수동 적용)
+-- 전환 후에는 AiHistoryPartitions 가 다음 달 파티션을 미리 만들고, 보관 기간이 지난 달은 아카이브가 파티션째 내보낸 뒤 DELETE 대신 DETACH 후 DROP 한다.
+-- 파티션 테이블의 기본 키는 파티션 키를 포함해야 하므로 (ai_request_id, created_at) 로 바뀐다.
+
+BEGIN;
+
+ALTER TABLE p_ai_history RENAME TO p_ai_history_legacy;
+ALTER INDEX IF EXISTS idx_ai_history_user_created RENAME TO idx_ai_history_legacy_user_created;
+ALTER INDEX IF EXISTS idx_ai_history_user_type_created RENAME TO idx_ai_history_legacy_user_type_created;
+ALTER INDEX IF EXISTS idx_ai_history_user_status_created RENAME TO idx_ai_history_legacy_user_status_created;
+ALTER INDEX IF EXISTS idx_ai_history_created RENAME TO idx_ai_history_legacy_created;
+ALTER INDEX IF EXISTS uk_ai_history_request_created RENAME TO uk_ai_history_legacy_request_created;
+
+CREATE TABLE p_ai_history (
+    LIKE p_ai_history_legacy INCLUDING DEFAULTS
+) PARTITION BY RANGE (created_at);
+
+ALTER TABLE p_ai_history ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE p_ai_history ADD CONSTRAINT p_ai_history_pk PRIMARY KEY (ai_request_id, created_at);
+
+-- 부모 테이블에 만든 인덱스는 모든 파티션에 자동으로 만들어진다.
+CREATE INDEX idx_ai_history_user_created
+    ON p_ai_history (user_id, created_at DESC, ai_request_id DESC);
+CREATE INDEX idx_ai_history_user_type_created
+    ON p_ai_history (user_id, req_type, created_at DESC, ai_request_id DESC);
+CREATE INDEX idx_ai_history_user_status_created
+    ON p_ai_history (user_id, status, created_at DESC, ai_request_id DESC);
+CREATE INDEX idx_ai_history_created
+    ON p_ai_history (created_at, ai_request_id);
+
+-- 월 파티션 이름은 p_ai_history_YYYYMM. 이미 있으면 아무것도 하지 않는다.
+CREATE OR REPLACE FUNCTION ai_history_ensure_partition(p_month date) RETURNS text AS $$
+DECLARE
+    month_start date := date_trunc('month', p_month)::date;
+    partition_name text := format('p_ai_history_%s', to_char(month_start, 'YYYYMM'));
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF p_ai_history FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, (month_start + interval '1 month')::date);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터가 있는 달부터 다음 3개월까지 파티션을 만든 뒤 데이터를 옮긴다.
+SELECT ai_history_ensure_partition(month::date)
+FROM generate_series(
+    date_trunc('month', coalesce((SELECT min(created_at) FROM p_ai_history_legacy), now())),
+    date_trunc('month', now()) + interval '3 months',
+    interval '1 month') AS month;
+
+-- 월 파티션이 없을 때의 안전망. 여기에 쌓인 달은 ai_history_ensure_partition 이 실패하므로 비어 있게 유지한다.
+CREATE TABLE p_ai_history_default PARTITION OF p_ai_history DEFAULT;
+
+UPDATE p_ai_history_legacy SET created_at = coalesce(updated_at, now()) WHERE created_at IS NULL;
+
+INSERT INTO p_ai_history
+SELECT * FROM p_ai_history_legacy;
+
+COMMIT;
+
+-- 옮긴 건수를 확인한 뒤 기존 테이블을 지운다.
+-- DROP TABLE p_ai_history_legacy;
@@ -0,0 +1,20 @@
+-- MCP 채팅 메모리 저장소 (JdbcChatMemoryRepository, PostgreSQL)
+CREATE TABLE IF NOT EXISTS SPRING_AI_CHAT_MEMORY (
+    conversation_id VARCHAR(36) NOT NULL,
+    content         TEXT        NOT NULL,
+    type            VARCHAR(10) NOT NULL CHECK (type IN ('USER', 'ASSISTANT', 'SYSTEM', 'TOOL')),
+    "timestamp"     TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS SPRING_AI_CHAT_MEMORY_CONVERSATION_ID_TIMESTAMP_IDX
+    ON SPRING_AI_CHAT_MEMORY (conversation_id, "timestamp");
+
+-- 대화별 쓰기 버전 (CachingChatMemoryRepository). saveAll 과 같은 트랜잭션에서 시퀀스 값으로 갱신하므로
+-- 행을 지웠다 다시 만들어도 이전 버전과 겹치지 않는다. 오래된 행은 ChatMemoryRetentionJob 이 지운다.
+CREATE SEQUENCE IF NOT EXISTS ai_chat_memory_version_seq;
+
+CREATE TABLE IF NOT EXISTS ai_chat_memory_version (
+    conversation_id VARCHAR(36) PRIMARY KEY,
+    version         BIGINT      NOT NULL,
+    updated_at      TIMESTAMP   NOT NULL
+);
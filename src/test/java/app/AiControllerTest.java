@@ -1,28 +1,44 @@
 package app;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import app.commonUtil.security.TokenPrincipalParser;
+import app.global.ratelimit.AiRateLimiter;
 import app.model.dto.request.AiRequest;
+import app.model.dto.response.AiHistoryPageResponse;
+import app.model.dto.response.AiJobResponse;
 import app.model.dto.response.AiResponse;
+import app.model.entity.enums.AiRequestStatus;
 import app.model.entity.enums.ReqType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 @WebMvcTest(AiController.class)
+@Import(AiRateLimiter.class)
 class AiControllerTest {
 
     @Autowired
@@ -45,9 +61,9 @@ class AiControllerTest {
     @DisplayName("AI 설명 생성 API 호출 성공")
     void generateDescription_Success() throws Exception {
         AiRequest request = new AiRequest("Test Store", "Test Menu", ReqType.MENU_DESCRIPTION, "Test Prompt");
-        AiResponse response = new AiResponse("1", "Generated Description");
+        AiResponse response = new AiResponse("1", "Generated Description", false);
 
-        when(aiService.generateDescription(any(), any(AiRequest.class))).thenReturn(response);
+        when(aiService.generateDescription(any(), any(AiRequest.class), any())).thenReturn(response);
 
         mockMvc.perform(post("/ai/describe")
                         .with(csrf())
@@ -58,6 +74,28 @@ class AiControllerTest {
                 .andExpect(jsonPath("$.result.generatedContent").value("Generated Description"));
     }
 
+    @Test
+    @WithMockUser(username = "1", roles = "OWNER")
+    @DisplayName("AI 설명 생성 논블로킹 API 호출 성공")
+    void generateDescriptionReactive_Success() throws Exception {
+        AiRequest request = new AiRequest("Test Store", "Test Menu", ReqType.MENU_DESCRIPTION, "Test Prompt");
+        AiResponse response = new AiResponse("1", "Generated Description", false);
+
+        when(aiService.generateDescriptionReactive(any(), any(AiRequest.class), any())).thenReturn(Mono.just(response));
+
+        MvcResult result = mockMvc.perform(post("/ai/rx/describe")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.result.generatedContent").value("Generated Description"));
+    }
+
     @Test
     @DisplayName("AI 설명 생성 API 호출 실패 - 인증되지 않은 사용자")
     void generateDescription_Fail_Unauthorized() throws Exception {
@@ -70,4 +108,32 @@ class AiControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @WithMockUser(username = "1", roles = "OWNER")
+    @DisplayName("AI 설명 생성 결과 조회 API 호출 성공")
+    void getDescriptionJob_Success() throws Exception {
+        UUID requestId = UUID.randomUUID();
+        AiJobResponse response = new AiJobResponse(requestId.toString(), AiRequestStatus.SUCCESS, "Generated Description", false);
+
+        when(aiService.getDescriptionJob(any(), any(UUID.class))).thenReturn(response);
+
+        mockMvc.perform(get("/ai/describe/{requestId}", requestId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.result.generatedContent").value("Generated Description"));
+    }
+
+    @Test
+    @WithMockUser(username = "1", roles = "OWNER")
+    @DisplayName("AI 요청 내역 조회 API 호출 성공")
+    void getHistories_Success() throws Exception {
+        AiHistoryPageResponse response = new AiHistoryPageResponse(List.of(), false, null, null);
+
+        when(aiService.getHistories(any(), eq(ReqType.MENU_DESCRIPTION), isNull(), isNull(), isNull(), anyInt()))
+            .thenReturn(response);
+
+        mockMvc.perform(get("/ai/history").param("reqType", "MENU_DESCRIPTION"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.hasNext").value(false));
+    }
 }
@@ -0,0 +1,83 @@
+package app;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import app.commonUtil.security.TokenPrincipalParser;
+import app.global.ratelimit.AiRateLimiter;
+import app.model.dto.request.AiRequest;
+import app.model.dto.response.AiResponse;
+import app.model.entity.enums.ReqType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+// 분당 1회, 버스트 1: 요청 하나가 토큰 하나만 써야 첫 요청의 ASYNC 재디스패치가 통과하고 두 번째 요청이 거절된다.
+@WebMvcTest(AiController.class)
+@Import(AiRateLimiter.class)
+@TestPropertySource(properties = {"ai.rate-limit.requests-per-minute=1", "ai.rate-limit.burst=1"})
+@DisplayName("AiRateLimitInterceptor 비동기 디스패치 테스트")
+class AiRateLimitAsyncDispatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AiService aiService;
+
+    @MockitoBean
+    private TokenPrincipalParser tokenPrincipalParser;
+
+    @MockitoBean
+    private ChatModel chatModel;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser(username = "1", roles = "OWNER")
+    @DisplayName("성공: /ai/rx/describe 요청은 ASYNC 재디스패치를 포함해 토큰을 하나만 사용")
+    void generateDescriptionReactive_Success_UsesOneToken() throws Exception {
+        AiRequest aiRequest = new AiRequest("Test Store", "Test Menu", ReqType.MENU_DESCRIPTION, "Test Prompt");
+        when(tokenPrincipalParser.getUserId(any())).thenReturn("1");
+        when(aiService.generateDescriptionReactive(any(), any(AiRequest.class), any()))
+            .thenReturn(Mono.just(new AiResponse("1", "Generated Description", false)));
+        String body = objectMapper.writeValueAsString(aiRequest);
+
+        MvcResult result = mockMvc.perform(post("/ai/rx/describe")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.generatedContent").value("Generated Description"));
+
+        mockMvc.perform(post("/ai/rx/describe")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+}
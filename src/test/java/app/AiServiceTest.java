@@ -3,9 +3,13 @@ package app;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -15,14 +19,35 @@ import static org.mockito.Mockito.when;
 
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.commonUtil.security.TokenPrincipalParser;
+import app.global.async.AiJobExecutor;
+import app.global.async.ReactiveOffload;
+import app.global.cache.DescriptionResponseCache;
+import app.global.coalesce.RequestCoalescer;
+import app.global.metrics.LlmMetrics;
+import app.global.outbox.AiHistoryOutbox;
+import app.global.prompt.DescriptionPromptRegistry;
+import app.global.ratelimit.AiRateLimiter;
+import app.global.resilience.LlmCallExecutor;
+import app.global.routing.ModelRouter;
 import app.model.AiHistoryRepository;
+import app.model.dto.request.AiBatchRequest;
 import app.model.dto.request.AiRequest;
+import app.model.dto.response.AiBatchResponse;
+import app.model.dto.response.BatchGeneratedItem;
+import app.model.dto.response.AiJobResponse;
 import app.model.dto.response.AiResponse;
 import app.model.entity.AiHistory;
 import app.model.entity.enums.AiRequestStatus;
 import app.model.entity.enums.ReqType;
 import app.status.AiErrorStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,12 +56,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.ChatClient.CallResponseSpec;
 import org.springframework.ai.chat.client.ChatClient.ChatClientRequestSpec;
 import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
 
 @DisplayName("AiService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -48,12 +78,43 @@ class AiServiceTest {
     @Mock
     private AiHistoryRepository aiHistoryRepository;
 
+    @Mock
+    private AiHistoryOutbox aiHistoryOutbox;
+
     @Mock
     private ChatClient chatClient;
 
     @Mock
     private TokenPrincipalParser tokenPrincipalParser;
 
+    @Mock
+    private AiJobExecutor aiJobExecutor;
+
+    @Mock
+    private DescriptionResponseCache descriptionResponseCache;
+
+    @Mock
+    private LlmCallExecutor llmCallExecutor;
+
+    @Mock
+    private ModelRouter modelRouter;
+
+    @Mock
+    private LlmMetrics llmMetrics;
+
+    @Mock
+    private RequestCoalescer requestCoalescer;
+
+    @Spy
+    private DescriptionPromptRegistry descriptionPromptRegistry =
+        new DescriptionPromptRegistry(new ClassPathResource("prompts/description-prompts.yml"));
+
+    @Mock
+    private ReactiveOffload reactiveOffload;
+
+    @Mock
+    private AiRateLimiter aiRateLimiter;
+
     @Mock
     private Authentication authentication;
 
@@ -73,12 +134,21 @@ class AiServiceTest {
         savedHistory = mock(AiHistory.class);
         lenient().when(savedHistory.getAiRequestId()).thenReturn(UUID.randomUUID());
 
-        lenient().when(aiHistoryRepository.save(any(AiHistory.class))).thenReturn(savedHistory);
+        lenient().when(aiHistoryOutbox.save(any(AiHistory.class))).thenReturn(savedHistory);
 
         lenient().when(chatClient.prompt()).thenReturn(chatClientRequestSpec);
         lenient().when(chatClientRequestSpec.user(anyString())).thenReturn(chatClientRequestSpec);
         lenient().when(chatClientRequestSpec.options(any(ChatOptions.class))).thenReturn(chatClientRequestSpec);
         lenient().when(chatClientRequestSpec.call()).thenReturn(callResponseSpec);
+        lenient().when(llmCallExecutor.execute(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(llmCallExecutor.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(modelRouter.primaryModel(any())).thenReturn("gpt-4.1-mini");
+        lenient().when(modelRouter.call(any(), any(), any())).thenAnswer(invocation ->
+            new ModelRouter.Result<>("gpt-4.1-mini", invocation.<Function<String, ?>>getArgument(1).apply("gpt-4.1-mini")));
+        lenient().when(requestCoalescer.execute(anyString(), any(), anyBoolean(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        lenient().when(reactiveOffload.call(any()))
+            .thenAnswer(invocation -> Mono.fromCallable(invocation.<Callable<?>>getArgument(0)));
 
         lenient().when(tokenPrincipalParser.getUserId(authentication)).thenReturn("1");
     }
@@ -88,12 +158,12 @@ class AiServiceTest {
     void generateDescription_Fail_MissingStoreName() {
         AiRequest invalidRequest = new AiRequest(null, "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
 
-        assertThatThrownBy(() -> aiService.generateDescription(authentication, invalidRequest))
+        assertThatThrownBy(() -> aiService.generateDescription(authentication, invalidRequest, null))
             .isInstanceOf(GeneralException.class)
             .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_INVALID_INPUT_VALUE);
 
         verify(chatClient, never()).prompt();
-        verify(aiHistoryRepository, never()).save(any(AiHistory.class));
+        verify(aiHistoryOutbox, never()).save(any(AiHistory.class));
     }
 
     @Test
@@ -101,12 +171,12 @@ class AiServiceTest {
     void generateDescription_Fail_MissingMenuNameForMenuDescription() {
         AiRequest invalidRequest = new AiRequest("가게", "", ReqType.MENU_DESCRIPTION, "요청사항");
 
-        assertThatThrownBy(() -> aiService.generateDescription(authentication, invalidRequest))
+        assertThatThrownBy(() -> aiService.generateDescription(authentication, invalidRequest, null))
             .isInstanceOf(GeneralException.class)
             .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_INVALID_INPUT_VALUE);
 
         verify(chatClient, never()).prompt();
-        verify(aiHistoryRepository, never()).save(any(AiHistory.class));
+        verify(aiHistoryOutbox, never()).save(any(AiHistory.class));
     }
 
     @Test
@@ -114,11 +184,50 @@ class AiServiceTest {
     void generateDescription_Success_HistorySavedAsPending() {
         AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
         when(callResponseSpec.content()).thenReturn("AI 응답");
-        aiService.generateDescription(authentication, aiRequest);
+        aiService.generateDescription(authentication, aiRequest, null);
 
-        verify(aiHistoryRepository, times(1)).save(aiHistoryCaptor.capture());
-        assertEquals(AiRequestStatus.PENDING, aiHistoryCaptor.getValue().getStatus());
-        assertEquals("가게", aiHistoryCaptor.getValue().getStoreName());
+        verify(aiHistoryOutbox, times(2)).save(aiHistoryCaptor.capture());
+        AiHistory pendingHistory = aiHistoryCaptor.getAllValues().get(0);
+        assertEquals(AiRequestStatus.PENDING, pendingHistory.getStatus());
+        assertEquals("가게", pendingHistory.getStoreName());
+    }
+
+    @Test
+    @DisplayName("성공: 로컬 템플릿으로 대체한 결과는 기록과 응답에 대체 결과로 표시하고 캐시하지 않음")
+    void generateDescription_Success_FallbackIsFlagged() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(savedHistory.getStoreName()).thenReturn("가게");
+        when(savedHistory.getMenuName()).thenReturn("메뉴");
+        when(savedHistory.getReqType()).thenReturn(ReqType.MENU_DESCRIPTION);
+        when(savedHistory.getPromptText()).thenReturn("요청사항");
+        when(modelRouter.call(any(), any(), any())).thenAnswer(invocation ->
+            new ModelRouter.Result<>(ModelRouter.FALLBACK_MODEL, invocation.<Supplier<?>>getArgument(2).get()));
+        doAnswer(invocation -> {
+            when(savedHistory.isFallback()).thenReturn(true);
+            return null;
+        }).when(savedHistory).updateFallbackContent(anyString());
+
+        AiResponse response = aiService.generateDescription(authentication, aiRequest, null);
+
+        assertTrue(response.isFallback());
+        verify(savedHistory).updateFallbackContent(anyString());
+        verify(savedHistory, never()).updateGeneratedContent(anyString(), any());
+        verify(descriptionResponseCache, never()).put(anyString(), anyString());
+        verify(chatClient, never()).prompt();
+    }
+
+    @Test
+    @DisplayName("성공: 논블로킹 설명 생성은 구독할 때 동기 API 와 같은 과정으로 생성")
+    void generateDescriptionReactive_Success_GeneratesOnSubscribe() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+
+        Mono<AiResponse> response = aiService.generateDescriptionReactive(authentication, aiRequest, null);
+
+        verify(chatClient, never()).prompt();
+        assertEquals("AI 응답", response.block().getGeneratedContent());
+        verify(reactiveOffload).call(any());
+        verify(aiHistoryOutbox, times(2)).save(any(AiHistory.class));
     }
 
     @Test
@@ -134,13 +243,14 @@ class AiServiceTest {
             return null;
         }).when(savedHistory).updateGeneratedContent(eq(expectedContent), eq(AiRequestStatus.SUCCESS));
 
-        AiResponse response = aiService.generateDescription(authentication, aiRequest);
+        AiResponse response = aiService.generateDescription(authentication, aiRequest, null);
 
         assertNotNull(response);
         assertEquals(expectedContent, response.getGeneratedContent());
 
-        verify(aiHistoryRepository, times(1)).save(any(AiHistory.class));
+        verify(aiHistoryOutbox, times(2)).save(any(AiHistory.class));
         verify(savedHistory).updateGeneratedContent(expectedContent, AiRequestStatus.SUCCESS);
+        verify(aiHistoryOutbox).save(savedHistory);
 
         assertEquals(AiRequestStatus.SUCCESS, savedHistory.getStatus());
         assertEquals(expectedContent, savedHistory.getGeneratedContent());
@@ -154,9 +264,277 @@ class AiServiceTest {
         String errorMessage = "Error: " + aiCallException.getMessage();
         when(callResponseSpec.content()).thenThrow(aiCallException);
 
-        assertThrows(GeneralException.class, () -> aiService.generateDescription(authentication, aiRequest));
+        assertThrows(GeneralException.class, () -> aiService.generateDescription(authentication, aiRequest, null));
 
-        verify(aiHistoryRepository, times(1)).save(any(AiHistory.class));
+        verify(aiHistoryOutbox, times(2)).save(any(AiHistory.class));
         verify(savedHistory).updateGeneratedContent(errorMessage, AiRequestStatus.FAILED);
+        verify(aiHistoryOutbox).save(savedHistory);
+    }
+
+    @Test
+    @DisplayName("실패: 동시 호출 제한 초과 시 429 예외를 그대로 전달하고 DB 상태 FAILED로 업데이트")
+    void generateDescription_Fail_ConcurrencyLimited() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(callResponseSpec.content()).thenThrow(new GeneralException(AiErrorStatus.AI_CONCURRENCY_LIMITED));
+
+        assertThatThrownBy(() -> aiService.generateDescription(authentication, aiRequest, null))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_CONCURRENCY_LIMITED);
+
+        verify(savedHistory).updateGeneratedContent(anyString(), eq(AiRequestStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("성공: Idempotency-Key 가 있으면 사용자와 키로 합류하고 결과를 보관")
+    void generateDescription_Success_CoalescedByIdempotencyKey() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+
+        aiService.generateDescription(authentication, aiRequest, "order-1");
+
+        verify(requestCoalescer).execute(eq("sync:1:key:order-1"), anyString(), eq(true), any());
+    }
+
+    @Test
+    @DisplayName("성공: 같은 Idempotency-Key 라도 요청 내용이 다르면 다른 요청 해시로 합류를 시도")
+    void generateDescription_Success_IdempotencyKeyCarriesRequestFingerprint() {
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+
+        aiService.generateDescription(authentication, new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항"), "order-1");
+        aiService.generateDescription(authentication, new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "다른 요청사항"), "order-1");
+
+        ArgumentCaptor<String> fingerprintCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestCoalescer, times(2)).execute(eq("sync:1:key:order-1"), fingerprintCaptor.capture(), eq(true), any());
+        assertNotEquals(fingerprintCaptor.getAllValues().get(0), fingerprintCaptor.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("성공: 캐시를 건너뛰는 요청은 같은 프롬프트라도 캐시를 쓰는 요청과 다른 키로 합류")
+    void generateDescription_Success_BypassCacheCoalescesSeparately() {
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+        AiRequest bypassRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        bypassRequest.setBypassCache(true);
+
+        aiService.generateDescription(authentication, new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항"), null);
+        aiService.generateDescription(authentication, bypassRequest, null);
+
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestCoalescer, times(2)).execute(keyCaptor.capture(), isNull(), eq(false), any());
+        assertNotEquals(keyCaptor.getAllValues().get(0), keyCaptor.getAllValues().get(1));
+        assertTrue(keyCaptor.getAllValues().get(1).startsWith("sync:1:bypass:"));
+    }
+
+    @Test
+    @DisplayName("성공: Idempotency-Key 가 없으면 사용자와 프롬프트로 합류하고 결과는 보관하지 않음")
+    void generateDescription_Success_CoalescedByPrompt() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+
+        aiService.generateDescription(authentication, aiRequest, null);
+
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(requestCoalescer).execute(keyCaptor.capture(), isNull(), eq(false), any());
+        assertTrue(keyCaptor.getValue().startsWith("sync:1:"));
+        assertFalse(keyCaptor.getValue().contains(":key:"));
+    }
+
+    @Test
+    @DisplayName("실패: 빈 Idempotency-Key 는 AI 호출 없이 400 예외")
+    void generateDescription_Fail_BlankIdempotencyKey() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+
+        assertThatThrownBy(() -> aiService.generateDescription(authentication, aiRequest, " "))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_INVALID_INPUT_VALUE);
+
+        verify(chatClient, never()).prompt();
+        verify(aiHistoryOutbox, never()).save(any(AiHistory.class));
+    }
+
+    @Test
+    @DisplayName("성공: 비동기 요청 시 PENDING 상태로 즉시 반환하고 작업을 등록")
+    void generateDescriptionAsync_Success_ReturnsPending() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+
+        AiJobResponse response = aiService.generateDescriptionAsync(authentication, aiRequest, null);
+
+        assertEquals(AiRequestStatus.PENDING, response.getStatus());
+        verify(aiJobExecutor).execute(any(Runnable.class));
+        verify(chatClient, never()).prompt();
+    }
+
+    @Test
+    @DisplayName("실패: 작업 대기열이 가득 차면 FAILED로 기록하고 예외 발생")
+    void generateDescriptionAsync_Fail_QueueFull() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        doThrow(new TaskRejectedException("queue full")).when(aiJobExecutor).execute(any(Runnable.class));
+
+        assertThatThrownBy(() -> aiService.generateDescriptionAsync(authentication, aiRequest, null))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_JOB_QUEUE_FULL);
+
+        verify(savedHistory).updateGeneratedContent(anyString(), eq(AiRequestStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("성공: 캐시 적중 시 AI 호출 없이 캐시 결과를 기록")
+    void generateDescription_Success_ServedFromCache() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(descriptionResponseCache.get(anyString())).thenReturn(Optional.of("캐시된 응답"));
+
+        AiResponse response = aiService.generateDescription(authentication, aiRequest, null);
+
+        assertEquals("캐시된 응답", response.getGeneratedContent());
+        verify(chatClient, never()).prompt();
+        verify(savedHistory).updateCachedContent("캐시된 응답");
+    }
+
+    @Test
+    @DisplayName("성공: 캐시 우회 요청 시 캐시를 조회하지 않고 AI 호출")
+    void generateDescription_Success_BypassCache() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        aiRequest.setBypassCache(true);
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+
+        aiService.generateDescription(authentication, aiRequest, null);
+
+        verify(descriptionResponseCache, never()).get(anyString());
+        verify(descriptionResponseCache).put(anyString(), eq("AI 응답"));
+    }
+
+    @Test
+    @DisplayName("성공: OpenAI 를 사용할 수 없으면 로컬 템플릿으로 생성하고 캐시하지 않음")
+    void generateDescription_Success_LocalTemplateFallback() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(savedHistory.getReqType()).thenReturn(ReqType.MENU_DESCRIPTION);
+        when(savedHistory.getStoreName()).thenReturn("가게");
+        when(savedHistory.getMenuName()).thenReturn("메뉴");
+        when(savedHistory.getPromptText()).thenReturn("요청사항");
+        when(modelRouter.call(any(), any(), any())).thenAnswer(invocation ->
+            new ModelRouter.Result<>(ModelRouter.FALLBACK_MODEL, invocation.<Supplier<?>>getArgument(2).get()));
+
+        AiResponse response = aiService.generateDescription(authentication, aiRequest, null);
+
+        assertEquals("가게의 자신 있는 메뉴, 메뉴", response.getGeneratedContent());
+        verify(chatClient, never()).prompt();
+        verify(savedHistory).updateGeneratedContent("가게의 자신 있는 메뉴, 메뉴", AiRequestStatus.SUCCESS);
+        verify(descriptionResponseCache, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 요청 종류별 템플릿과 글자 수 제한으로 프롬프트 생성")
+    void generateDescription_Success_PromptRenderedPerReqType() {
+        AiRequest aiRequest = new AiRequest("가게", "메뉴", ReqType.MENU_DESCRIPTION, "요청사항");
+        when(callResponseSpec.content()).thenReturn("AI 응답");
+
+        aiService.generateDescription(authentication, aiRequest, null);
+
+        ArgumentCaptor<String> promptCaptor = ArgumentCaptor.forClass(String.class);
+        verify(chatClientRequestSpec).user(promptCaptor.capture());
+        assertTrue(promptCaptor.getValue().contains("- 메뉴 이름: 메뉴"));
+        assertTrue(promptCaptor.getValue().contains("30자 이내"));
+    }
+
+    @Test
+    @DisplayName("성공: 일괄 요청 시 한 번의 AI 호출로 생성하고 누락 항목은 FAILED로 반환")
+    void generateDescriptions_Success_PartialResults() {
+        AiBatchRequest batchRequest = new AiBatchRequest(List.of(
+            new AiRequest("가게", "메뉴1", ReqType.MENU_DESCRIPTION, "요청사항"),
+            new AiRequest("가게", "메뉴2", ReqType.MENU_DESCRIPTION, "요청사항")));
+        when(callResponseSpec.entity(any(ParameterizedTypeReference.class)))
+            .thenReturn(List.of(new BatchGeneratedItem(0, "첫 번째 설명")));
+
+        AiBatchResponse response = aiService.generateDescriptions(authentication, batchRequest);
+
+        verify(chatClient, times(1)).prompt();
+        verify(aiHistoryOutbox, times(1)).saveAll(anyList());
+        assertEquals(1, response.getSuccessCount());
+        assertEquals(1, response.getFailureCount());
+        assertEquals("첫 번째 설명", response.getResults().get(0).getGeneratedContent());
+        assertEquals(AiRequestStatus.FAILED, response.getResults().get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("성공: 일괄 요청의 잘못된 항목은 FAILED로 반환하고 나머지 항목은 생성")
+    void generateDescriptions_Success_InvalidItemsFailIndividually() {
+        AiBatchRequest batchRequest = new AiBatchRequest(Arrays.asList(
+            new AiRequest("가게", "메뉴1", ReqType.MENU_DESCRIPTION, "요청사항"),
+            new AiRequest("가게", "", ReqType.MENU_DESCRIPTION, "요청사항"),
+            new AiRequest("가게", "메뉴3", null, "요청사항"),
+            null));
+        when(callResponseSpec.entity(any(ParameterizedTypeReference.class)))
+            .thenReturn(List.of(new BatchGeneratedItem(0, "첫 번째 설명")));
+
+        AiBatchResponse response = aiService.generateDescriptions(authentication, batchRequest);
+
+        assertEquals(1, response.getSuccessCount());
+        assertEquals(3, response.getFailureCount());
+        assertEquals(AiRequestStatus.SUCCESS, response.getResults().get(0).getStatus());
+        assertEquals(AiRequestStatus.FAILED, response.getResults().get(1).getStatus());
+        assertEquals(AiRequestStatus.FAILED, response.getResults().get(2).getStatus());
+        assertEquals(AiRequestStatus.FAILED, response.getResults().get(3).getStatus());
+    }
+
+    @Test
+    @DisplayName("성공: 일괄 요청은 청크(10개)마다 요청 한도를 하나씩 차감")
+    void generateDescriptions_Success_ChargesRateLimitPerChunk() {
+        List<AiRequest> items = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            items.add(new AiRequest("가게", "메뉴" + i, ReqType.MENU_DESCRIPTION, "요청사항"));
+        }
+        when(callResponseSpec.entity(any(ParameterizedTypeReference.class))).thenReturn(List.of());
+
+        aiService.generateDescriptions(authentication, new AiBatchRequest(items));
+
+        verify(aiRateLimiter).acquire("1", 2);
+        verify(chatClient, times(2)).prompt();
+    }
+
+    @Test
+    @DisplayName("실패: 일괄 요청이 요청 한도를 넘으면 기록과 AI 호출 없이 429 예외")
+    void generateDescriptions_Fail_RateLimited() {
+        AiBatchRequest batchRequest = new AiBatchRequest(List.of(
+            new AiRequest("가게", "메뉴1", ReqType.MENU_DESCRIPTION, "요청사항")));
+        doThrow(new GeneralException(AiErrorStatus.AI_RATE_LIMITED)).when(aiRateLimiter).acquire("1", 1);
+
+        assertThatThrownBy(() -> aiService.generateDescriptions(authentication, batchRequest))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_RATE_LIMITED);
+
+        verify(chatClient, never()).prompt();
+        verify(aiHistoryOutbox, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("실패: 일괄 요청 목록이 없으면 AI 호출 없이 400 예외")
+    void generateDescriptions_Fail_MissingItems() {
+        assertThatThrownBy(() -> aiService.generateDescriptions(authentication, new AiBatchRequest(null)))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_INVALID_INPUT_VALUE);
+
+        verify(chatClient, never()).prompt();
+    }
+
+    @Test
+    @DisplayName("성공: 아직 DB 에 반영되지 않은 결과도 요청 ID로 조회")
+    void getDescriptionJob_Success_ReadsUnflushedHistory() {
+        UUID requestId = UUID.randomUUID();
+        AiHistory history = AiHistory.builder()
+            .aiRequestId(requestId)
+            .userId(1L)
+            .storeName("가게")
+            .menuName("메뉴")
+            .reqType(ReqType.MENU_DESCRIPTION)
+            .promptText("요청사항")
+            .generatedContent("AI 응답")
+            .status(AiRequestStatus.SUCCESS)
+            .build();
+        when(aiHistoryOutbox.find(requestId)).thenReturn(Optional.of(history));
+
+        AiJobResponse response = aiService.getDescriptionJob(authentication, requestId);
+
+        assertEquals(AiRequestStatus.SUCCESS, response.getStatus());
+        assertEquals("AI 응답", response.getGeneratedContent());
+        verify(aiHistoryRepository, never()).findById(any());
     }
 }
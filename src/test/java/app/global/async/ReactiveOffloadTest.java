@@ -0,0 +1,87 @@
+package app.global.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+@DisplayName("ReactiveOffload 단위 테스트")
+class ReactiveOffloadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReactiveOffload offload = new ReactiveOffload(meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        offload.destroy();
+    }
+
+    @Test
+    @DisplayName("성공: 작업은 구독한 스레드가 아닌 offload 스레드에서 실행")
+    void call_Success_RunsOnOffloadThread() {
+        String thread = offload.call(() -> Thread.currentThread().getName()).block(Duration.ofSeconds(5));
+
+        assertThat(thread).startsWith("ai-rx-offload").isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("실패: 스레드와 대기열이 모두 차면 AI_JOB_QUEUE_FULL 로 바로 거절")
+    void call_Fail_RejectsWhenSaturated() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Disposable running = offload.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Disposable queued = offload.call(() -> "queued").subscribe();
+
+        try {
+            assertThatThrownBy(() -> offload.call(() -> "rejected").block(Duration.ofSeconds(5)))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_JOB_QUEUE_FULL);
+            assertThat(meterRegistry.counter("ai.rx.offload.rejected").count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            running.dispose();
+            queued.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 대기열에서 queue-timeout 안에 시작하지 못한 작업은 실행하지 않고 AI_JOB_QUEUE_FULL")
+    void call_Fail_WhenQueuedLongerThanQueueTimeout() throws InterruptedException {
+        ReactiveOffload shortQueue = new ReactiveOffload(meterRegistry, 1, 10, Duration.ofMillis(200));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        Disposable running = shortQueue.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> shortQueue.call(() -> queuedRan.getAndSet(true)).block(Duration.ofSeconds(5)))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_JOB_QUEUE_FULL);
+            assertThat(meterRegistry.counter("ai.rx.offload.queue_timeout").count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            running.dispose();
+        }
+        assertThat(shortQueue.call(() -> "다음 작업").block(Duration.ofSeconds(5))).isEqualTo("다음 작업");
+        assertThat(queuedRan).isFalse();
+        shortQueue.destroy();
+    }
+}
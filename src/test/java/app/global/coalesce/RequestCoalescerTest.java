@@ -0,0 +1,186 @@
+package app.global.coalesce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RequestCoalescer 단위 테스트")
+class RequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(Duration.ofSeconds(2), Duration.ofMinutes(1), 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공: 동시에 들어온 같은 키 요청은 한 번만 실행하고 결과를 공유")
+    void execute_Success_ConcurrentRequestsJoinOneFlight() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> requestCoalescer.execute("sync:1:prompt", false, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "생성 결과";
+            })));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> requestCoalescer.execute("sync:1:prompt", false, () -> {
+                    executions.incrementAndGet();
+                    return "중복 실행";
+                })));
+            }
+            while (meterRegistry.counter("ai.describe.coalesced", "result", "joined").count() < 4) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("생성 결과");
+            }
+        }
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("성공: 보관된 결과는 같은 키 재시도에 다시 실행하지 않고 반환")
+    void execute_Success_ReplaysRetainedResult() {
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = requestCoalescer.execute("sync:1:key:abc", true, () -> "결과" + executions.incrementAndGet());
+        String retried = requestCoalescer.execute("sync:1:key:abc", true, () -> "결과" + executions.incrementAndGet());
+
+        assertThat(first).isEqualTo("결과1");
+        assertThat(retried).isEqualTo("결과1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패: 같은 키로 요청 내용이 다른 재시도는 보관된 결과를 재생하지 않고 거절")
+    void execute_Fail_RejectsRetainedKeyWithDifferentRequest() {
+        AtomicInteger executions = new AtomicInteger();
+        requestCoalescer.execute("sync:1:key:abc", "hash-1", true, () -> "결과" + executions.incrementAndGet());
+
+        assertThatThrownBy(() -> requestCoalescer.execute("sync:1:key:abc", "hash-2", true,
+            () -> "결과" + executions.incrementAndGet()))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_IDEMPOTENCY_KEY_MISMATCH);
+        assertThat(requestCoalescer.execute("sync:1:key:abc", "hash-1", true, () -> "다시 실행")).isEqualTo("결과1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패: 같은 키로 진행 중인 요청과 내용이 다르면 합류하지 않고 거절")
+    void execute_Fail_RejectsInFlightKeyWithDifferentRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> requestCoalescer.execute("sync:1:key:abc", "hash-1", true, () -> {
+                started.countDown();
+                await(release);
+                return "생성 결과";
+            }));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> requestCoalescer.execute("sync:1:key:abc", "hash-2", true, () -> "중복 실행"))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_IDEMPOTENCY_KEY_MISMATCH);
+            release.countDown();
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("생성 결과");
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 보관하지 않는 키는 이전 실행이 끝나면 다시 실행")
+    void execute_Success_RunsAgainAfterCompletion() {
+        AtomicInteger executions = new AtomicInteger();
+
+        requestCoalescer.execute("sync:1:prompt", false, executions::incrementAndGet);
+        requestCoalescer.execute("sync:1:prompt", false, executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("실패: 진행 중인 요청이 join-timeout 안에 끝나지 않으면 504 예외")
+    void execute_Fail_JoinTimeout() throws Exception {
+        requestCoalescer = new RequestCoalescer(Duration.ofMillis(50), Duration.ofMinutes(1), 100, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> requestCoalescer.execute("sync:1:prompt", false, () -> {
+                started.countDown();
+                await(release);
+                return "생성 결과";
+            }));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> requestCoalescer.execute("sync:1:prompt", false, () -> "중복 실행"))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_GENERATION_TIMEOUT);
+
+            release.countDown();
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("생성 결과");
+        }
+    }
+
+    @Test
+    @DisplayName("실패: leader 의 실패는 합류한 요청에도 같은 상태로 전달")
+    void execute_Fail_PropagatesLeaderFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> requestCoalescer.execute("sync:1:prompt", false, () -> {
+                started.countDown();
+                await(release);
+                throw new GeneralException(AiErrorStatus.AI_CIRCUIT_OPEN);
+            }));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<String> joiner = executor.submit(() -> requestCoalescer.execute("sync:1:prompt", false, () -> "중복 실행"));
+            while (meterRegistry.counter("ai.describe.coalesced", "result", "joined").count() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThatThrownBy(() -> joiner.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(GeneralException.class)
+                .cause()
+                .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_CIRCUIT_OPEN);
+            assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(GeneralException.class);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
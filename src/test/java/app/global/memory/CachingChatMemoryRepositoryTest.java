@@ -0,0 +1,100 @@
+package app.global.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.memory.InMemoryChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+@DisplayName("CachingChatMemoryRepository 단위 테스트")
+class CachingChatMemoryRepositoryTest {
+
+    private final ChatMemoryRepository store = spy(new InMemoryChatMemoryRepository());
+    private final CountingVersions versions = new CountingVersions();
+    private final CachingChatMemoryRepository repository = new CachingChatMemoryRepository(store,
+        versions, 1_000_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("성공: DB 버전이 그대로면 캐시된 대화를 사용")
+    void findByConversationId_Success_UsesCachedCopyWhenVersionUnchanged() {
+        store.saveAll("c1", List.of(new UserMessage("안녕")));
+
+        repository.findByConversationId("c1");
+        List<Message> messages = repository.findByConversationId("c1");
+
+        assertThat(messages).extracting(Message::getText).containsExactly("안녕");
+        verify(store, times(1)).findByConversationId("c1");
+    }
+
+    @Test
+    @DisplayName("성공: 다른 인스턴스가 대화를 갱신하면 캐시 대신 DB 에서 다시 읽음")
+    void findByConversationId_Success_ReloadsWhenAnotherReplicaWrote() {
+        store.saveAll("c1", List.of(new UserMessage("안녕")));
+        repository.findByConversationId("c1");
+
+        // 다른 인스턴스의 쓰기: 이 인스턴스의 캐시를 거치지 않고 DB 만 바뀐다.
+        versions.write("c1", () -> store.saveAll("c1", List.of(new UserMessage("안녕"), new AssistantMessage("다른 인스턴스의 답변"))));
+
+        assertThat(repository.findByConversationId("c1"))
+            .extracting(Message::getText)
+            .containsExactly("안녕", "다른 인스턴스의 답변");
+    }
+
+    @Test
+    @DisplayName("성공: 저장한 대화는 그 쓰기의 버전으로 캐시해 이후 조회는 버전 조회 한 번으로 끝남")
+    void saveAll_Success_CachesSavedMessagesWithWriteVersion() {
+        repository.saveAll("c1", List.of(new UserMessage("안녕"), new AssistantMessage("반가워요")));
+
+        assertThat(repository.findByConversationId("c1")).hasSize(2);
+        assertThat(repository.findByConversationId("c1")).hasSize(2);
+
+        verify(store, never()).findByConversationId("c1");
+        assertThat(versions.writes).hasValue(1);
+        assertThat(versions.reads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("성공: 대화를 지우면 빈 대화를 그 버전으로 캐시")
+    void deleteByConversationId_Success_CachesEmptyConversation() {
+        repository.saveAll("c1", List.of(new UserMessage("안녕")));
+
+        repository.deleteByConversationId("c1");
+
+        assertThat(repository.findByConversationId("c1")).isEmpty();
+        verify(store, never()).findByConversationId("c1");
+    }
+
+    // DB 의 버전 행 대신 쓰기마다 올라가는 카운터. 조회와 쓰기 횟수를 센다.
+    private static class CountingVersions implements CachingChatMemoryRepository.ConversationVersions {
+
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public Object current(String conversationId) {
+            reads.incrementAndGet();
+            return version.get();
+        }
+
+        @Override
+        public synchronized Object write(String conversationId, Runnable write) {
+            writes.incrementAndGet();
+            write.run();
+            return version.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package app.global.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.memory.InMemoryChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+
+@DisplayName("TokenBudgetChatMemory 단위 테스트")
+class TokenBudgetChatMemoryTest {
+
+    private static final int MAX_TOKENS = 100;
+    private static final String CONVERSATION_ID = "u1";
+
+    private final ChatMemoryRepository repository = new InMemoryChatMemoryRepository();
+    private final ChatMemoryCompactionStats compactionStats =
+        new ChatMemoryCompactionStats(new SimpleMeterRegistry(), 100, Duration.ofDays(7));
+    private final TokenCountEstimator tokenCountEstimator = mock(TokenCountEstimator.class);
+    private TokenBudgetChatMemory chatMemory;
+
+    @BeforeEach
+    void setUp() {
+        // 문자 1개를 토큰 1개로 계산해 예산 계산을 눈으로 확인할 수 있게 한다.
+        when(tokenCountEstimator.estimate(anyString())).thenAnswer(invocation -> ((String) invocation.getArgument(0)).length());
+        chatMemory = new TokenBudgetChatMemory(repository, tokenCountEstimator, compactionStats, MAX_TOKENS, 30, 2, 10, 20);
+    }
+
+    @Test
+    @DisplayName("성공: 예산 이하이면 메시지를 그대로 저장")
+    void add_Success_KeepsConversationUnderBudget() {
+        List<Message> turn = List.of(new UserMessage("떡볶이 메뉴 보여줘"), new AssistantMessage("떡볶이 3종이 있어요."));
+
+        chatMemory.add(CONVERSATION_ID, turn);
+
+        assertThat(chatMemory.get(CONVERSATION_ID)).extracting(Message::getText)
+            .containsExactly("떡볶이 메뉴 보여줘", "떡볶이 3종이 있어요.");
+        assertThat(compactionStats.get(CONVERSATION_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 예산을 넘으면 오래된 턴을 요약 SystemMessage 로 접고 최근 메시지는 그대로 유지")
+    void add_Success_CompactsOlderTurnsIntoSummary() {
+        for (int i = 0; i < 3; i++) {
+            chatMemory.add(CONVERSATION_ID, turn(i));
+        }
+
+        List<Message> conversation = chatMemory.get(CONVERSATION_ID);
+
+        assertThat(conversation.get(0).getMessageType()).isEqualTo(MessageType.SYSTEM);
+        assertThat(conversation.get(0).getText()).startsWith(TokenBudgetChatMemory.SUMMARY_HEADER);
+        assertThat(conversation.subList(conversation.size() - 2, conversation.size())).extracting(Message::getText)
+            .containsExactlyElementsOf(texts(turn(2)));
+        assertThat(tokensOf(conversation)).isLessThanOrEqualTo(MAX_TOKENS);
+        assertThat(compactionStats.get(CONVERSATION_ID).compactions()).isPositive();
+    }
+
+    @Test
+    @DisplayName("성공: 이미 압축된 대화는 다시 저장해도 바뀌지 않고 요약 메시지도 하나만 유지")
+    void add_Success_RepeatedCompactionIsIdempotent() {
+        for (int i = 0; i < 3; i++) {
+            chatMemory.add(CONVERSATION_ID, turn(i));
+        }
+        List<Message> compacted = chatMemory.get(CONVERSATION_ID);
+        int compactions = compactionStats.get(CONVERSATION_ID).compactions();
+
+        chatMemory.add(CONVERSATION_ID, List.of());
+
+        assertThat(chatMemory.get(CONVERSATION_ID)).extracting(Message::getText)
+            .containsExactlyElementsOf(texts(compacted));
+        assertThat(compactionStats.get(CONVERSATION_ID).compactions()).isEqualTo(compactions);
+
+        chatMemory.add(CONVERSATION_ID, turn(3));
+
+        List<Message> conversation = chatMemory.get(CONVERSATION_ID);
+        assertThat(conversation).filteredOn(message -> message.getText().startsWith(TokenBudgetChatMemory.SUMMARY_HEADER))
+            .hasSize(1);
+        assertThat(conversation.get(0).getText()).startsWith(TokenBudgetChatMemory.SUMMARY_HEADER);
+        assertThat(tokensOf(conversation)).isLessThanOrEqualTo(MAX_TOKENS);
+    }
+
+    @Test
+    @DisplayName("성공: 긴 대화를 압축해도 메시지마다 토큰을 몇 번만 셈")
+    void add_Success_CountsTokensLinearlyWhileCompacting() {
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            messages.add(new UserMessage("메시지 " + i));
+        }
+
+        chatMemory.add(CONVERSATION_ID, messages);
+
+        assertThat(tokensOf(chatMemory.get(CONVERSATION_ID))).isLessThanOrEqualTo(MAX_TOKENS);
+        verify(tokenCountEstimator, atMost(messages.size() * 6)).estimate(anyString());
+    }
+
+    // 한 턴에 60토큰: 두 턴이면 예산(100)을 넘는다.
+    private static List<Message> turn(int index) {
+        return List.of(new UserMessage("질문 " + index + " " + "가".repeat(24)),
+            new AssistantMessage("답변 " + index + " " + "나".repeat(24)));
+    }
+
+    private static List<String> texts(List<Message> messages) {
+        return messages.stream().map(Message::getText).toList();
+    }
+
+    private static int tokensOf(List<Message> messages) {
+        return messages.stream().mapToInt(message -> message.getText().length()).sum();
+    }
+}
@@ -0,0 +1,219 @@
+package app.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import app.global.jpa.TimeOrderedUuidGenerator;
+import app.model.entity.AiHistory;
+import app.model.entity.enums.AiRequestStatus;
+import app.model.entity.enums.ReqType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@DisplayName("AiHistoryOutbox 단위 테스트")
+class AiHistoryOutboxTest {
+
+    @TempDir
+    private Path journalDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RecordingWriter writer = new RecordingWriter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AiHistoryOutbox outbox;
+
+    @AfterEach
+    void tearDown() {
+        writer.release();
+        if (outbox != null && outbox.isRunning()) {
+            outbox.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 기록은 대기열에 넣고 반환하며 종료 시 남은 기록을 모두 반영하고 저널을 비움")
+    void save_Success_FlushesInBackgroundAndDrainsOnStop() throws IOException {
+        outbox = newOutbox(Duration.ofSeconds(5));
+        outbox.start();
+        AiHistory history = pendingHistory();
+
+        outbox.save(history);
+        history.updateGeneratedContent("AI 응답", AiRequestStatus.SUCCESS);
+        outbox.save(history);
+        outbox.stop();
+
+        List<AiHistoryRecord> written = writer.records.stream()
+            .filter(record -> record.aiRequestId().equals(history.getAiRequestId()))
+            .toList();
+        assertThat(written).isNotEmpty();
+        assertThat(written.get(written.size() - 1).status()).isEqualTo(AiRequestStatus.SUCCESS);
+        assertThat(journalFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: DB 에 반영되기 전 기록도 요청 ID로 조회")
+    void find_Success_ReturnsUnflushedRecord() {
+        outbox = newOutbox(Duration.ofSeconds(5));
+        outbox.start();
+        writer.block();
+        AiHistory history = pendingHistory();
+
+        outbox.save(history);
+
+        assertThat(outbox.find(history.getAiRequestId()))
+            .hasValueSatisfying(found -> assertThat(found.getStatus()).isEqualTo(AiRequestStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("성공: 종료 전에 반영하지 못한 기록은 다음 기동 때 저널에서 재생")
+    void start_Success_ReplaysJournalAfterUncleanStop() throws IOException {
+        outbox = newOutbox(Duration.ofMillis(200));
+        outbox.start();
+        writer.failing = true;
+        AiHistory history = pendingHistory();
+        history.updateGeneratedContent("AI 응답", AiRequestStatus.SUCCESS);
+
+        outbox.save(history);
+        outbox.stop();
+        assertThat(journalFiles()).isPositive();
+
+        writer.failing = false;
+        outbox = newOutbox(Duration.ofSeconds(5));
+        outbox.start();
+
+        assertThat(writer.records)
+            .anySatisfy(record -> {
+                assertThat(record.aiRequestId()).isEqualTo(history.getAiRequestId());
+                assertThat(record.generatedContent()).isEqualTo("AI 응답");
+            });
+        assertThat(journalFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 영구 오류가 난 배치는 나눠서 다시 쓰고 문제 기록만 dead-letter 로 뺀 뒤 저널을 비움")
+    void flush_Success_DeadLettersRecordFailingPermanently() throws IOException {
+        outbox = newOutbox(Duration.ofSeconds(5));
+        outbox.start();
+        writer.block();
+        AiHistory first = pendingHistory();
+        AiHistory invalid = pendingHistory();
+        AiHistory last = pendingHistory();
+        writer.rejected = Set.of(invalid.getAiRequestId());
+
+        outbox.save(first);
+        outbox.save(invalid);
+        outbox.save(last);
+        writer.release();
+        outbox.stop();
+
+        assertThat(writer.records).extracting(AiHistoryRecord::aiRequestId)
+            .contains(first.getAiRequestId(), last.getAiRequestId())
+            .doesNotContain(invalid.getAiRequestId());
+        assertThat(meterRegistry.counter("ai.history.outbox.dead_letter").count()).isEqualTo(1);
+        assertThat(outbox.find(invalid.getAiRequestId())).isEmpty();
+        assertThat(journalFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 실행 중이 아니면 요청 스레드에서 바로 기록")
+    void save_Success_WritesDirectlyWhenNotRunning() {
+        outbox = newOutbox(Duration.ofSeconds(5));
+        AiHistory history = pendingHistory();
+
+        outbox.save(history);
+
+        assertThat(writer.records).singleElement()
+            .satisfies(record -> assertThat(record.aiRequestId()).isEqualTo(history.getAiRequestId()));
+    }
+
+    @Test
+    @DisplayName("성공: PENDING 과 결과 기록의 created_at 은 UUIDv7 시각으로 같아 같은 파티션 행으로 upsert")
+    void save_Success_KeepsCreatedAtStableAcrossStatusChanges() throws InterruptedException {
+        outbox = newOutbox(Duration.ofSeconds(5));
+        AiHistory history = AiHistory.builder()
+            .aiRequestId(TimeOrderedUuidGenerator.next())
+            .userId(1L)
+            .reqType(ReqType.MENU_DESCRIPTION)
+            .status(AiRequestStatus.PENDING)
+            .build();
+
+        outbox.save(history);
+        Thread.sleep(5);
+        history.updateGeneratedContent("AI 응답", AiRequestStatus.SUCCESS);
+        outbox.save(history);
+
+        assertThat(writer.records).hasSize(2);
+        assertThat(writer.records.get(1).createdAt()).isEqualTo(writer.records.get(0).createdAt());
+        assertThat(writer.records.get(1).updatedAt()).isAfter(writer.records.get(0).updatedAt());
+    }
+
+    private AiHistoryOutbox newOutbox(Duration drainTimeout) {
+        return new AiHistoryOutbox(writer, objectMapper, meterRegistry, 100, 50, Duration.ofMillis(10),
+            drainTimeout, true, journalDirectory, 1000, false);
+    }
+
+    private long journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    private static AiHistory pendingHistory() {
+        return AiHistory.builder()
+            .aiRequestId(UUID.randomUUID())
+            .userId(1L)
+            .storeName("가게")
+            .menuName("메뉴")
+            .reqType(ReqType.MENU_DESCRIPTION)
+            .promptText("요청사항")
+            .status(AiRequestStatus.PENDING)
+            .build();
+    }
+
+    private static class RecordingWriter implements AiHistoryWriter {
+
+        private final List<AiHistoryRecord> records = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile Set<UUID> rejected = Set.of();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        public void write(List<AiHistoryRecord> batch) {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failing) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            if (batch.stream().anyMatch(record -> rejected.contains(record.aiRequestId()))) {
+                throw new DataIntegrityViolationException("value too long for type character varying(255)");
+            }
+            records.addAll(batch);
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+    }
+}
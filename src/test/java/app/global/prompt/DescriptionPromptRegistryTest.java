@@ -0,0 +1,59 @@
+package app.global.prompt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+@DisplayName("DescriptionPromptRegistry 단위 테스트")
+class DescriptionPromptRegistryTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("실패: chunk-size 가 0 이하인 프롬프트 파일은 시작 시 거절")
+    void create_Fail_NonPositiveChunkSize() throws IOException {
+        Path prompts = copyPrompts(directory.resolve("prompts.yml"));
+        Files.writeString(prompts, withChunkSize(prompts, 0), StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new DescriptionPromptRegistry(new FileSystemResource(prompts)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("실패: 핫 리로드한 chunk-size 가 0 이하이면 이전 템플릿을 유지")
+    void reloadIfModified_Fail_KeepsPreviousTemplatesWhenChunkSizeIsNotPositive() throws IOException {
+        Path prompts = copyPrompts(directory.resolve("prompts.yml"));
+        DescriptionPromptRegistry registry = new DescriptionPromptRegistry(new FileSystemResource(prompts));
+        int chunkSize = registry.getBatch().getChunkSize();
+
+        Files.writeString(prompts, withChunkSize(prompts, -1), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(prompts, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        registry.reloadIfModified();
+
+        assertThat(registry.getBatch().getChunkSize()).isEqualTo(chunkSize).isPositive();
+    }
+
+    private static Path copyPrompts(Path target) throws IOException {
+        try (InputStream inputStream = new ClassPathResource("prompts/description-prompts.yml").getInputStream()) {
+            Files.copy(inputStream, target);
+        }
+        return target;
+    }
+
+    private static String withChunkSize(Path prompts, int chunkSize) throws IOException {
+        return Files.readString(prompts, StandardCharsets.UTF_8)
+            .replaceAll("chunk-size:\\s*\\d+", "chunk-size: " + chunkSize);
+    }
+}
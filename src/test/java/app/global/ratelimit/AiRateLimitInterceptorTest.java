@@ -0,0 +1,73 @@
+package app.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.commonUtil.security.TokenPrincipalParser;
+import app.status.AiErrorStatus;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@DisplayName("AiRateLimitInterceptor 단위 테스트")
+class AiRateLimitInterceptorTest {
+
+    private final TokenPrincipalParser tokenPrincipalParser = mock(TokenPrincipalParser.class);
+    // 분당 1회, 버스트 1: 두 번째 요청은 약 60초 뒤에 허용된다.
+    private final AiRateLimitInterceptor interceptor = new AiRateLimitInterceptor(tokenPrincipalParser, new AiRateLimiter(1, 1, 1000));
+
+    @BeforeEach
+    void setUp() {
+        Authentication authentication = new TestingAuthenticationToken("user", null, "ROLE_OWNER");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        when(tokenPrincipalParser.getUserId(authentication)).thenReturn("1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("성공: 한도 안의 요청은 통과")
+    void preHandle_Success_AllowsWithinLimit() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, new Object())).isTrue();
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNull();
+    }
+
+    @Test
+    @DisplayName("실패: 한도를 넘으면 429 예외와 함께 올림한 Retry-After 초를 헤더로 전달")
+    void preHandle_Fail_RateLimitedWithRetryAfter() {
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, new Object()))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_RATE_LIMITED);
+        assertThat(AiErrorStatus.AI_RATE_LIMITED.getHttpStatus().value()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+    }
+
+    @Test
+    @DisplayName("성공: 비동기 응답의 ASYNC 재디스패치는 토큰을 쓰지 않음")
+    void preHandle_Success_SkipsAsyncDispatch() {
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object());
+        MockHttpServletRequest asyncDispatch = new MockHttpServletRequest();
+        asyncDispatch.setDispatcherType(DispatcherType.ASYNC);
+
+        assertThat(interceptor.preHandle(asyncDispatch, new MockHttpServletResponse(), new Object())).isTrue();
+    }
+}
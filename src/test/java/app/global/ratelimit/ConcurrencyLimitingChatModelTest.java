@@ -0,0 +1,53 @@
+package app.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.status.AiErrorStatus;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+@DisplayName("ConcurrencyLimitingChatModel 단위 테스트")
+class ConcurrencyLimitingChatModelTest {
+
+    private final ChatModel delegate = mock(ChatModel.class);
+    private final ConcurrencyLimitingChatModel chatModel =
+        new ConcurrencyLimitingChatModel(delegate, 1, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("실패: 스트리밍은 허가가 없으면 기다리지 않고 바로 거절")
+    void stream_Fail_RejectsImmediatelyWhenNoPermit() {
+        when(delegate.stream(any(Prompt.class))).thenReturn(Flux.never());
+        Disposable inFlight = chatModel.stream(new Prompt("hi")).subscribe();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> chatModel.stream(new Prompt("hi")).blockLast(Duration.ofSeconds(5)))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_CONCURRENCY_LIMITED);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+
+        inFlight.dispose();
+        assertThat(chatModel.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 스트림이 끝나면 허가를 반환")
+    void stream_Success_ReleasesPermitOnCompletion() {
+        when(delegate.stream(any(Prompt.class))).thenReturn(Flux.just(mock(ChatResponse.class)));
+
+        chatModel.stream(new Prompt("hi")).blockLast(Duration.ofSeconds(5));
+        chatModel.stream(new Prompt("hi")).blockLast(Duration.ofSeconds(5));
+
+        assertThat(chatModel.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package app.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserRateLimiter 단위 테스트")
+class UserRateLimiterTest {
+
+    // 분당 60회(1초에 1개 보충), 버스트 3
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final UserRateLimiter limiter = new UserRateLimiter(60, 3, 1000, now::get);
+
+    @Test
+    @DisplayName("성공: 버스트 크기만큼은 연속 요청을 허용")
+    void tryAcquire_Success_AllowsBurst() {
+        assertThat(limiter.tryAcquire("u1")).isZero();
+        assertThat(limiter.tryAcquire("u1")).isZero();
+        assertThat(limiter.tryAcquire("u1")).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 버스트를 다 쓰면 다음 토큰이 보충될 때까지 남은 시간을 반환")
+    void tryAcquire_Fail_ReturnsRetryAfterWhenBurstExhausted() {
+        exhaust("u1");
+
+        assertThat(limiter.tryAcquire("u1")).isEqualTo(Duration.ofSeconds(1));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(limiter.tryAcquire("u1")).isEqualTo(Duration.ofMillis(750));
+    }
+
+    @Test
+    @DisplayName("성공: 시간이 지나면 보충된 만큼만 다시 허용")
+    void tryAcquire_Success_RefillsAtConfiguredRate() {
+        exhaust("u1");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("u1")).isZero();
+        assertThat(limiter.tryAcquire("u1")).isPositive();
+
+        // 버스트 전체가 보충될 만큼 쉬어도 버스트 크기 이상은 쌓이지 않는다.
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        exhaust("u1");
+        assertThat(limiter.tryAcquire("u1")).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("성공: 여러 개를 한 번에 차감하고 남은 만큼만 이어서 허용")
+    void tryAcquire_Success_ChargesMultiplePermits() {
+        assertThat(limiter.tryAcquire("u1", 2)).isZero();
+        assertThat(limiter.tryAcquire("u1", 2)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(limiter.tryAcquire("u1")).isZero();
+        assertThat(limiter.tryAcquire("u1")).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("성공: 버스트보다 많은 차감은 버스트 크기로 줄여 빈 버킷에서는 허용")
+    void tryAcquire_Success_CapsPermitsAtBurst() {
+        assertThat(limiter.tryAcquire("u1", 10)).isZero();
+        assertThat(limiter.tryAcquire("u1")).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("성공: 사용자마다 버킷을 따로 사용")
+    void tryAcquire_Success_LimitsEachUserIndependently() {
+        exhaust("u1");
+
+        assertThat(limiter.tryAcquire("u1")).isPositive();
+        assertThat(limiter.tryAcquire("u2")).isZero();
+    }
+
+    private void exhaust(String userId) {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(userId)).isZero();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package app.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.model.entity.enums.ReqType;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+
+@DisplayName("LlmCallExecutor 장애 주입 테스트")
+class LlmCallExecutorTest {
+
+    private FaultInjectingChatModel chatModel;
+    private ChatClient chatClient;
+    private LlmCircuitBreaker circuitBreaker;
+    private LlmCallExecutor llmCallExecutor;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        chatModel = new FaultInjectingChatModel();
+        chatClient = ChatClient.builder(chatModel).build();
+        circuitBreaker = new LlmCircuitBreaker(10, 4, 50, Duration.ofMinutes(1), 1);
+        llmCallExecutor = new LlmCallExecutor(circuitBreaker, meterRegistry, Duration.ofSeconds(1), 3,
+            Duration.ofMillis(1), Duration.ofMillis(5), List.of(ReqType.MENU_DESCRIPTION), Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        llmCallExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("성공: 일시적 오류는 재시도 후 성공")
+    void execute_Success_RetriesTransientFailures() {
+        chatModel.fail();
+        chatModel.fail();
+
+        String content = llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask);
+
+        assertThat(content).isEqualTo("ok");
+        assertThat(chatModel.calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("실패: 재시도 횟수를 모두 쓰면 마지막 오류를 전달")
+    void execute_Fail_RetriesExhausted() {
+        chatModel.fail();
+        chatModel.fail();
+        chatModel.fail();
+
+        assertThatThrownBy(() -> llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask))
+            .isInstanceOf(TransientAiException.class);
+        assertThat(chatModel.calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("실패: 재시도할 수 없는 오류는 한 번만 호출")
+    void execute_Fail_NonTransientNotRetried() {
+        chatModel.faults.add(new Fault(Duration.ZERO, new NonTransientAiException("invalid request")));
+
+        assertThatThrownBy(() -> llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask))
+            .isInstanceOf(NonTransientAiException.class);
+        assertThat(chatModel.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패: 마감 시간을 넘기면 시간 초과 예외")
+    void execute_Fail_DeadlineExceeded() {
+        chatModel.delay(Duration.ofSeconds(5));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_GENERATION_TIMEOUT);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("실패: 실패율이 임계치를 넘으면 서킷이 열려 모델을 호출하지 않음")
+    void execute_Fail_CircuitOpens() {
+        for (int i = 0; i < 6; i++) {
+            chatModel.fail();
+        }
+        assertThatThrownBy(() -> llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask))
+            .isInstanceOf(TransientAiException.class);
+        assertThatThrownBy(() -> llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_CIRCUIT_OPEN);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+        assertThat(chatModel.calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("성공: 메뉴 설명은 첫 응답이 늦으면 hedge 요청의 결과를 사용")
+    void execute_Success_HedgedMenuDescription() {
+        chatModel.delay(Duration.ofSeconds(5));
+
+        long startedAt = System.nanoTime();
+        String content = llmCallExecutor.execute(ReqType.MENU_DESCRIPTION, this::ask);
+
+        assertThat(content).isEqualTo("ok");
+        assertThat(chatModel.calls).hasValue(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("ai.llm.call.abandoned").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 호출 안에서는 HTTP 응답 대기 시간에 쓸 남은 마감 시간을 알 수 있음")
+    void execute_Success_ExposesRemainingDeadlineToCall() {
+        Duration remaining = llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, () -> LlmDeadline.remaining().orElseThrow());
+
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(LlmDeadline.remaining()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 가게 설명은 hedge 요청을 보내지 않음")
+    void execute_Success_StoreDescriptionNotHedged() {
+        chatModel.delay(Duration.ofMillis(300));
+
+        String content = llmCallExecutor.execute(ReqType.STORE_DESCRIPTION, this::ask);
+
+        assertThat(content).isEqualTo("ok");
+        assertThat(chatModel.calls).hasValue(1);
+    }
+
+    private String ask() {
+        return chatClient.prompt().user("설명을 작성해주세요.").call().content();
+    }
+
+    private record Fault(Duration delay, RuntimeException error) {
+    }
+
+    // 등록된 순서대로 지연이나 오류를 주입하고, 등록된 장애가 없으면 바로 "ok" 를 응답하는 모델
+    private static class FaultInjectingChatModel implements ChatModel {
+
+        private final Queue<Fault> faults = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        void fail() {
+            faults.add(new Fault(Duration.ZERO, new TransientAiException("injected failure")));
+        }
+
+        void delay(Duration delay) {
+            faults.add(new Fault(delay, null));
+        }
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            calls.incrementAndGet();
+            Fault fault = faults.poll();
+            if (fault != null) {
+                try {
+                    Thread.sleep(fault.delay().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TransientAiException("interrupted");
+                }
+                if (fault.error() != null) {
+                    throw fault.error();
+                }
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("ok"))));
+        }
+    }
+}
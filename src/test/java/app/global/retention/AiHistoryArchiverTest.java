@@ -0,0 +1,206 @@
+package app.global.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.global.retention.AiHistoryArchiveRun.Status;
+import app.global.retention.AiHistoryArchiveRun.Trigger;
+import app.status.AiErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+@DisplayName("AiHistoryArchiver 단위 테스트")
+class AiHistoryArchiverTest {
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AiHistoryPartitions partitions = mock(AiHistoryPartitions.class);
+    private final AiHistoryArchiveLock lock = mock(AiHistoryArchiveLock.class);
+    private final AiHistoryArchiveLock.Lease lease = mock(AiHistoryArchiveLock.Lease.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AiHistoryArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        when(lock.tryAcquire()).thenReturn(Optional.of(lease));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (archiver != null) {
+            archiver.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 보관 기간이 지난 행을 배치로 gzip JSONL 파일에 쓰고 지운 뒤 클러스터 락을 반납")
+    void start_Success_ArchivesInBatchesAndDeletes() throws Exception {
+        archiver = newArchiver(2);
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
+            .thenReturn(List.of(row(), row()))
+            .thenReturn(List.of(row()));
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(2, 1);
+
+        AiHistoryArchiveRun run = awaitFinished(archiver.start(Trigger.MANUAL));
+
+        assertThat(run.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(run.getArchivedRows()).isEqualTo(3);
+        assertThat(run.getDeletedRows()).isEqualTo(3);
+        assertThat(run.getBatches()).isEqualTo(2);
+        assertThat(run.getDroppedPartitions()).isEmpty();
+        assertThat(readArchive(run.getArchiveFile()))
+            .hasSize(3)
+            .allSatisfy(line -> assertThat(line).contains("\"store_name\":\"가게\"").contains("\"created_at\":\"2025-01-02T03:04:05\""));
+        assertThat(archiver.findRun(run.getRunId())).contains(run);
+        verify(lease, timeout(1_000)).close();
+    }
+
+    @Test
+    @DisplayName("성공: 파티션 테이블이면 보관 기간이 지난 달을 통째로 내보낸 뒤 행 삭제 없이 DETACH 후 DROP")
+    void start_Success_ArchivesExpiredPartitionsWholesale() throws Exception {
+        archiver = newArchiver(2);
+        when(partitions.isPartitioned()).thenReturn(true);
+        when(partitions.expired(any())).thenReturn(List.of("p_ai_history_202501", "p_ai_history_202502"));
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
+            .thenReturn(List.of(row(), row()))
+            .thenReturn(List.of(row()))
+            .thenReturn(List.of());
+
+        AiHistoryArchiveRun run = awaitFinished(archiver.start(Trigger.SCHEDULED));
+
+        assertThat(run.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(run.getArchivedRows()).isEqualTo(3);
+        assertThat(run.getDeletedRows()).isEqualTo(3);
+        assertThat(run.getDroppedPartitions()).containsExactly("p_ai_history_202501", "p_ai_history_202502");
+        assertThat(readArchive(run.getArchiveFile())).hasSize(3);
+        verify(partitions).detachAndDrop("p_ai_history_202501");
+        verify(partitions).detachAndDrop("p_ai_history_202502");
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    @DisplayName("실패: 다른 인스턴스가 클러스터 락을 잡고 있으면 409 로 거절하고 다음 실행은 가능")
+    void start_Fail_WhenAnotherInstanceHoldsLock() throws Exception {
+        archiver = newArchiver(2);
+        when(lock.tryAcquire()).thenReturn(Optional.empty()).thenReturn(Optional.of(lease));
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> archiver.start(Trigger.MANUAL))
+            .isInstanceOf(GeneralException.class)
+            .hasFieldOrPropertyWithValue("code", AiErrorStatus.AI_ARCHIVE_IN_PROGRESS);
+        assertThat(archiver.recentRuns()).isEmpty();
+
+        assertThat(awaitFinished(archiver.start(Trigger.MANUAL)).getStatus()).isEqualTo(Status.COMPLETED);
+        verify(lease, timeout(1_000)).close();
+    }
+
+    @Test
+    @DisplayName("실패: 이미 진행 중인 아카이브가 있으면 새 실행을 거절")
+    void start_Fail_WhenRunInProgress() throws Exception {
+        archiver = newArchiver(2);
+        CountDownLatch gate = new CountDownLatch(1);
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            gate.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        AiHistoryArchiveRun run = archiver.start(Trigger.MANUAL);
+
+        assertThatThrownBy(() -> archiver.start(Trigger.MANUAL)).isInstanceOf(GeneralException.class);
+        gate.countDown();
+        assertThat(awaitFinished(run).getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(run.getArchiveFile()).isNull();
+        assertThat(archiveFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 도중에 실패해도 이미 지운 배치는 아카이브 파일로 남김")
+    void start_Fail_KeepsArchivedBatchesWhenDatabaseFails() throws Exception {
+        archiver = newArchiver(2);
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
+            .thenReturn(List.of(row(), row()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(2);
+
+        AiHistoryArchiveRun run = awaitFinished(archiver.start(Trigger.SCHEDULED));
+
+        assertThat(run.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(run.getDeletedRows()).isEqualTo(2);
+        assertThat(readArchive(run.getArchiveFile())).hasSize(2);
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        verify(lease, timeout(1_000)).close();
+    }
+
+    private AiHistoryArchiver newArchiver(int batchSize) {
+        return new AiHistoryArchiver(jdbcTemplate, partitions, lock, objectMapper, new SimpleMeterRegistry(), true,
+            Duration.ofDays(180), batchSize, archiveDirectory);
+    }
+
+    private static AiHistoryArchiveRun awaitFinished(AiHistoryArchiveRun run) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (run.getStatus() == Status.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return run;
+    }
+
+    private static Map<String, Object> row() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("ai_request_id", UUID.randomUUID());
+        row.put("user_id", 1L);
+        row.put("store_name", "가게");
+        row.put("status", "SUCCESS");
+        row.put("created_at", Timestamp.valueOf(LocalDateTime.of(2025, 1, 2, 3, 4, 5)));
+        return row;
+    }
+
+    private static List<String> readArchive(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private long archiveFiles() throws IOException {
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package app.global.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.global.ratelimit.ConcurrencyLimitingChatModel;
+import app.global.resilience.LlmCircuitBreaker;
+import app.model.entity.enums.ReqType;
+import app.status.AiErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("ModelRouter 단위 테스트")
+class ModelRouterTest {
+
+    private final ModelRoutingProperties properties = new ModelRoutingProperties();
+    private final ConcurrencyLimitingChatModel chatModel = mock(ConcurrencyLimitingChatModel.class);
+    private final LlmCircuitBreaker circuitBreaker = mock(LlmCircuitBreaker.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ModelRouter modelRouter = new ModelRouter(properties, chatModel, circuitBreaker, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        properties.setModels(Map.of(ReqType.STORE_DESCRIPTION, "gpt-4.1"));
+        properties.setHighLoadModels(Map.of(ReqType.STORE_DESCRIPTION, "gpt-4.1-mini"));
+        properties.setHighLoadUtilization(0.75);
+        properties.setFallbackUtilization(0.95);
+        when(circuitBreaker.getState()).thenReturn(LlmCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("성공: 사용률이 낮으면 요청 종류별 기본 모델 사용")
+    void call_Success_UsesPrimaryModelUnderNormalLoad() {
+        when(chatModel.utilization()).thenReturn(0.74);
+
+        ModelRouter.Result<String> result = modelRouter.call(ReqType.STORE_DESCRIPTION, model -> model, () -> "fallback");
+
+        assertThat(result.model()).isEqualTo("gpt-4.1");
+        assertThat(result.result()).isEqualTo("gpt-4.1");
+        assertThat(result.isFallback()).isFalse();
+        assertThat(modelRouter.primaryModel(ReqType.MENU_DESCRIPTION)).isEqualTo(properties.getDefaultModel());
+    }
+
+    @Test
+    @DisplayName("성공: 사용률이 high-load 임계치 이상이면 high-load 모델 사용")
+    void call_Success_UsesHighLoadModelAtThreshold() {
+        when(chatModel.utilization()).thenReturn(0.75);
+
+        ModelRouter.Result<String> store = modelRouter.call(ReqType.STORE_DESCRIPTION, model -> model, () -> "fallback");
+        ModelRouter.Result<String> menu = modelRouter.call(ReqType.MENU_DESCRIPTION, model -> model, () -> "fallback");
+
+        assertThat(store.model()).isEqualTo("gpt-4.1-mini");
+        assertThat(menu.model()).isEqualTo(properties.getDefaultModel());
+        assertThat(meterRegistry.get("ai.model.route").tag("reason", "high_load").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 사용률이 fallback 임계치 이상이면 OpenAI 를 호출하지 않고 로컬 템플릿 사용")
+    void call_Success_FallsBackWhenOverloaded() {
+        when(chatModel.utilization()).thenReturn(0.95);
+
+        ModelRouter.Result<String> result = modelRouter.call(ReqType.STORE_DESCRIPTION, upstreamNotCalled(), () -> "template");
+
+        assertThat(result.isFallback()).isTrue();
+        assertThat(result.result()).isEqualTo("template");
+        assertThat(meterRegistry.get("ai.model.route").tag("reason", "overloaded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 서킷이 열려 있으면 로컬 템플릿 사용")
+    void call_Success_FallsBackWhenCircuitOpen() {
+        when(circuitBreaker.getState()).thenReturn(LlmCircuitBreaker.State.OPEN);
+
+        ModelRouter.Result<String> result = modelRouter.call(ReqType.STORE_DESCRIPTION, upstreamNotCalled(), () -> "template");
+
+        assertThat(result.isFallback()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 연결 오류, 시간 초과, 5xx/429, 동시 호출 제한은 로컬 템플릿으로 대체")
+    void call_Success_FallsBackOnUnavailableUpstream() {
+        when(chatModel.utilization()).thenReturn(0.1);
+
+        assertFallsBack(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+        assertFallsBack(new IllegalStateException("wrapped", new SocketTimeoutException("Read timed out")));
+        assertFallsBack(new TransientAiException("503 Service Unavailable"));
+        assertFallsBack(new GeneralException(AiErrorStatus.AI_GENERATION_TIMEOUT));
+        assertFallsBack(new GeneralException(AiErrorStatus.AI_CONCURRENCY_LIMITED));
+        assertFallsBack(new GeneralException(AiErrorStatus.AI_CIRCUIT_OPEN));
+    }
+
+    @Test
+    @DisplayName("실패: 응답 파싱 오류, 입력 오류, 코드 오류는 대체하지 않고 그대로 전달")
+    void call_Fail_DoesNotFallBackOnOtherErrors() {
+        when(chatModel.utilization()).thenReturn(0.1);
+
+        assertPropagates(new IllegalStateException("Cannot deserialize value of type `java.util.ArrayList`"));
+        assertPropagates(new NullPointerException());
+        assertPropagates(new NonTransientAiException("400 Bad Request"));
+        assertPropagates(new GeneralException(AiErrorStatus.AI_INVALID_INPUT_VALUE));
+    }
+
+    @Test
+    @DisplayName("실패: fallback 이 꺼져 있으면 사용할 수 없는 OpenAI 오류도 그대로 전달")
+    void call_Fail_FallbackDisabled() {
+        properties.setFallbackEnabled(false);
+        when(chatModel.utilization()).thenReturn(1.0);
+
+        assertPropagates(new TransientAiException("503 Service Unavailable"));
+    }
+
+    private void assertFallsBack(RuntimeException error) {
+        ModelRouter.Result<String> result = modelRouter.call(ReqType.STORE_DESCRIPTION, model -> {
+            throw error;
+        }, () -> "template");
+
+        assertThat(result.isFallback()).as(error.toString()).isTrue();
+        assertThat(result.result()).isEqualTo("template");
+    }
+
+    private void assertPropagates(RuntimeException error) {
+        assertThatThrownBy(() -> modelRouter.call(ReqType.STORE_DESCRIPTION, model -> {
+            throw error;
+        }, () -> "template")).isSameAs(error);
+    }
+
+    private static Function<String, String> upstreamNotCalled() {
+        return model -> {
+            throw new AssertionError("upstream must not be called");
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package app.global.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+@DisplayName("CachingToolCallbackProvider 단위 테스트")
+class CachingToolCallbackProviderTest {
+
+    private final McpToolProperties properties = new McpToolProperties();
+
+    @Test
+    @DisplayName("성공: 설정된 읽기 전용 도구만 캐시하고 MCP 클라이언트 접두사가 붙은 이름도 인식")
+    void getToolCallbacks_Success_WrapsOnlyConfiguredReadOnlyTools() {
+        properties.setReadOnly(Map.of("get_menus", Duration.ofMinutes(5)));
+        ToolCallback prefixed = tool("store_client_get_menus");
+        ToolCallback similar = tool("get_menus_and_add_cart");
+        ToolCallback mutating = tool("add_cart");
+
+        ToolCallback[] callbacks = provider(prefixed, similar, mutating).getToolCallbacks();
+
+        assertThat(callbacks[0]).isInstanceOf(CachingToolCallback.class);
+        assertThat(callbacks[1]).isSameAs(similar);
+        assertThat(callbacks[2]).isSameAs(mutating);
+    }
+
+    @Test
+    @DisplayName("성공: 필드 순서와 공백만 다른 입력은 같은 캐시 항목을 사용")
+    void call_Success_CanonicalizesJsonInput() {
+        properties.setReadOnly(Map.of("get_menus", Duration.ofMinutes(5)));
+        ToolCallback delegate = tool("get_menus");
+        when(delegate.call(anyString())).thenReturn("[\"떡볶이\"]");
+        ToolCallback callback = provider(delegate).getToolCallbacks()[0];
+
+        callback.call("{\"storeId\":\"s1\",\"filter\":{\"spicy\":true,\"max\":3}}");
+        String result = callback.call(" { \"filter\" : { \"max\" : 3, \"spicy\" : true }, \"storeId\" : \"s1\" } ");
+        callback.call("{\"storeId\":\"s2\"}");
+
+        assertThat(result).isEqualTo("[\"떡볶이\"]");
+        verify(delegate, times(2)).call(anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 도구별 TTL 이 지나면 다시 호출하고 TTL 이 남은 도구는 캐시 사용")
+    void call_Success_AppliesPerToolTtl() throws InterruptedException {
+        properties.setReadOnly(Map.of("get_menus", Duration.ofMillis(50), "get_store", Duration.ofMinutes(5)));
+        ToolCallback menus = tool("get_menus");
+        ToolCallback store = tool("get_store");
+        when(menus.call(anyString())).thenReturn("menus");
+        when(store.call(anyString())).thenReturn("store");
+        ToolCallback[] callbacks = provider(menus, store).getToolCallbacks();
+
+        callbacks[0].call("{}");
+        callbacks[1].call("{}");
+        Thread.sleep(150);
+        callbacks[0].call("{}");
+        callbacks[1].call("{}");
+
+        verify(menus, times(2)).call(anyString());
+        verify(store, times(1)).call(anyString());
+    }
+
+    @Test
+    @DisplayName("실패: 결과가 null 이면 캐시하지 않고 다음 호출에서 다시 실행")
+    void call_Fail_DoesNotCacheNullResult() {
+        properties.setReadOnly(Map.of("get_menus", Duration.ofMinutes(5)));
+        ToolCallback delegate = tool("get_menus");
+        when(delegate.call(anyString())).thenReturn(null, "menus");
+        ToolCallback callback = provider(delegate).getToolCallbacks()[0];
+
+        assertThat(callback.call("{}")).isNull();
+        assertThat(callback.call("{}")).isEqualTo("menus");
+        assertThat(callback.call("{}")).isEqualTo("menus");
+        verify(delegate, times(2)).call(anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 변경 도구는 같은 입력이어도 매번 원래 도구를 호출")
+    void call_Success_MutatingToolAlwaysReachesDelegate() {
+        properties.setReadOnly(Map.of("get_menus", Duration.ofMinutes(5)));
+        ToolCallback delegate = tool("add_cart");
+        when(delegate.call(anyString())).thenReturn("ok");
+        ToolCallback callback = provider(delegate).getToolCallbacks()[0];
+
+        callback.call("{\"menuId\":\"m1\"}");
+        callback.call("{\"menuId\":\"m1\"}");
+
+        verify(delegate, times(2)).call(anyString());
+    }
+
+    private CachingToolCallbackProvider provider(ToolCallback... toolCallbacks) {
+        ToolCallbackProvider delegate = () -> Arrays.copyOf(toolCallbacks, toolCallbacks.length);
+        return new CachingToolCallbackProvider(delegate, properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static ToolCallback tool(String name) {
+        ToolCallback toolCallback = mock(ToolCallback.class);
+        when(toolCallback.getToolDefinition()).thenReturn(ToolDefinition.builder()
+            .name(name)
+            .description(name)
+            .inputSchema("{}")
+            .build());
+        return toolCallback;
+    }
+}
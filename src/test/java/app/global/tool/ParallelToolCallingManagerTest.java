@@ -0,0 +1,197 @@
+package app.global.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import app.global.metrics.LlmMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.model.tool.ToolExecutionResult;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionExceptionProcessor;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+
+@DisplayName("ParallelToolCallingManager 단위 테스트")
+class ParallelToolCallingManagerTest {
+
+    private ParallelToolCallingManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 읽기 전용 도구는 동시에 실행하고 응답은 모델이 요청한 순서대로 반환")
+    void executeToolCalls_Success_RunsReadOnlyToolsConcurrentlyInRequestOrder() {
+        manager = newManager(8, "get_store", "get_menus");
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        // 두 도구가 모두 시작해야 진행하므로 순서대로 실행하면 false 를 반환한다. 먼저 요청된 도구가 늦게 끝난다.
+        ToolCallback store = tool("get_store", input -> {
+            bothStarted.countDown();
+            boolean concurrent = await(bothStarted);
+            sleep(100);
+            return "store:" + concurrent;
+        });
+        ToolCallback menus = tool("get_menus", input -> {
+            bothStarted.countDown();
+            return "menus:" + await(bothStarted);
+        });
+
+        ToolExecutionResult result = manager.executeToolCalls(prompt("u1", store, menus),
+            toolCalls("get_store", "get_menus"));
+
+        assertThat(responsesOf(result)).extracting(ToolResponseMessage.ToolResponse::id)
+            .containsExactly("call-0", "call-1");
+        assertThat(responsesOf(result)).extracting(ToolResponseMessage.ToolResponse::responseData)
+            .containsExactly("store:true", "menus:true");
+    }
+
+    @Test
+    @DisplayName("성공: 같은 대화의 변경 도구는 동시에 요청돼도 하나씩 실행")
+    void executeToolCalls_Success_SerializesMutatingToolsPerConversation() throws Exception {
+        manager = newManager(8, "get_menus");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ToolCallback addCart = tool("add_cart", input -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+            return "ok";
+        });
+
+        ExecutorService turns = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ToolExecutionResult>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(turns.submit(() -> manager.executeToolCalls(prompt("u1", addCart), toolCalls("add_cart"))));
+            }
+            for (Future<ToolExecutionResult> result : results) {
+                assertThat(responsesOf(result.get(5, TimeUnit.SECONDS))).hasSize(1);
+            }
+        } finally {
+            turns.shutdownNow();
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 도구 실행 대기열이 가득 차면 요청 스레드에서 직접 실행")
+    void executeToolCalls_Success_RunsOnCallerWhenQueueIsFull() {
+        // parallelism 1 이면 스레드 1개와 대기열 4칸이므로 6번째 호출은 거절되어 요청 스레드에서 실행된다.
+        manager = newManager(1, "get_menus");
+        String callerThread = Thread.currentThread().getName();
+        CountDownLatch callerRan = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ToolCallback menus = tool("get_menus", input -> {
+            threads.add(Thread.currentThread().getName());
+            if (Thread.currentThread().getName().equals(callerThread)) {
+                callerRan.countDown();
+            } else if (!await(callerRan)) {
+                return "caller did not run";
+            }
+            return input;
+        });
+
+        ToolExecutionResult result = manager.executeToolCalls(prompt("u1", menus),
+            toolCalls("get_menus", "get_menus", "get_menus", "get_menus", "get_menus", "get_menus"));
+
+        assertThat(threads).contains(callerThread).anyMatch(name -> name.startsWith("ai-tool-"));
+        assertThat(responsesOf(result)).extracting(ToolResponseMessage.ToolResponse::id)
+            .containsExactly("call-0", "call-1", "call-2", "call-3", "call-4", "call-5");
+        assertThat(responsesOf(result)).extracting(ToolResponseMessage.ToolResponse::responseData)
+            .doesNotContain("caller did not run");
+    }
+
+    private static ParallelToolCallingManager newManager(int parallelism, String... readOnlyTools) {
+        McpToolProperties properties = new McpToolProperties();
+        properties.setParallelism(parallelism);
+        for (String readOnlyTool : readOnlyTools) {
+            properties.getReadOnly().put(readOnlyTool, Duration.ofMinutes(5));
+        }
+        return new ParallelToolCallingManager(mock(ToolCallingManager.class), mock(ToolCallbackResolver.class),
+            mock(ToolExecutionExceptionProcessor.class), properties, new LlmMetrics(new SimpleMeterRegistry()), false);
+    }
+
+    private static ToolCallback tool(String name, Function<String, String> body) {
+        ToolCallback toolCallback = mock(ToolCallback.class);
+        when(toolCallback.getToolDefinition()).thenReturn(ToolDefinition.builder()
+            .name(name)
+            .description(name)
+            .inputSchema("{}")
+            .build());
+        when(toolCallback.getToolMetadata()).thenReturn(ToolMetadata.builder().build());
+        when(toolCallback.call(anyString(), any(ToolContext.class)))
+            .thenAnswer(invocation -> body.apply(invocation.getArgument(0)));
+        return toolCallback;
+    }
+
+    private static Prompt prompt(String conversationId, ToolCallback... toolCallbacks) {
+        return new Prompt("주문해줘", ToolCallingChatOptions.builder()
+            .toolCallbacks(toolCallbacks)
+            .toolContext(Map.of(ParallelToolCallingManager.CONVERSATION_ID, conversationId))
+            .build());
+    }
+
+    private static ChatResponse toolCalls(String... toolNames) {
+        List<AssistantMessage.ToolCall> toolCalls = new ArrayList<>();
+        for (int i = 0; i < toolNames.length; i++) {
+            toolCalls.add(new AssistantMessage.ToolCall("call-" + i, "function", toolNames[i], "{\"n\":" + i + "}"));
+        }
+        return new ChatResponse(List.of(new Generation(new AssistantMessage("", Map.of(), toolCalls))));
+    }
+
+    private static List<ToolResponseMessage.ToolResponse> responsesOf(ToolExecutionResult result) {
+        List<Message> history = result.conversationHistory();
+        return ((ToolResponseMessage) history.get(history.size() - 1)).getResponses();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}